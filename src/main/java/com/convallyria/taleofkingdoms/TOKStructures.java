@@ -22,6 +22,7 @@ public class TOKStructures {
      public static final StructureType<?> REFICULE_VILLAGE_TYPE = registerType("reficule_village", ReficuleVillageStructure.CODEC);
 
      public static final StructurePieceType GATEWAY = GatewayGenerator.GatewayPiece::new;
+     public static final StructurePieceType GATEWAY_SHAFT = GatewayGenerator.GatewayShaftPiece::new;
      public static final StructureType<?> GATEWAY_TYPE = registerType("gateway", GatewayStructure.CODEC);
 
      public static void registerStructureFeatures() {
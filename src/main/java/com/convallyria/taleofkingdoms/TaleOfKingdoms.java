@@ -28,8 +28,10 @@ import com.convallyria.taleofkingdoms.common.generator.processor.GuildStructureP
 import com.convallyria.taleofkingdoms.common.gson.BlockPosAdapter;
 import com.convallyria.taleofkingdoms.common.gson.ConquestInstanceAdapter;
 import com.convallyria.taleofkingdoms.common.item.ItemRegistry;
+import com.convallyria.taleofkingdoms.common.listener.BlockChangeListener;
 import com.convallyria.taleofkingdoms.common.listener.BlockListener;
 import com.convallyria.taleofkingdoms.common.listener.CoinListener;
+import com.convallyria.taleofkingdoms.common.listener.DamageListener;
 import com.convallyria.taleofkingdoms.common.listener.DeleteWorldListener;
 import com.convallyria.taleofkingdoms.common.listener.KingdomListener;
 import com.convallyria.taleofkingdoms.common.listener.MobDeathListener;
@@ -84,6 +86,7 @@ public class TaleOfKingdoms implements ModInitializer {
     public static final Identifier FIX_GUILD_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "fix_guild");
     public static final Identifier TOGGLE_SELL_GUI_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "open_sell_gui");
     public static final Identifier BUY_ITEM_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "buy_item");
+    public static final Identifier SHOP_TRANSACTION_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "shop_transaction");
     public static final Identifier BANKER_INTERACT_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "banker_interact");
     public static final Identifier HUNTER_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "hunter");
     public static final Identifier INNKEEPER_PACKET_ID = new Identifier(TaleOfKingdoms.MODID, "innkeeper");
@@ -145,7 +148,9 @@ public class TaleOfKingdoms implements ModInitializer {
 
         // Load shop items
         new ShopParser().createShopItems();
-        ShopParser.guiShopItems.values().forEach(shopItems -> shopItems.forEach(shopItem -> LOGGER.info("Loaded item value " + shopItem.toString())));
+        ShopParser.getCatalog().getItems().forEach(shopItem -> LOGGER.info("Loaded item value " + shopItem.toString()));
+        api.getConfigWatcher().watch("shop.json", ShopParser::reload);
+        api.getConfigWatcher().watch("worthiness.json", CoinListener::reloadWorthiness);
         config = AutoConfig.register(TaleOfKingdomsConfig.class, PartitioningSerializer.wrap(Toml4jConfigSerializer::new)).getConfig();
     }
 
@@ -173,7 +178,9 @@ public class TaleOfKingdoms implements ModInitializer {
         new SleepListener();
         new MobSpawnListener();
         new MobDeathListener();
+        new DamageListener();
         new BlockListener();
+        new BlockChangeListener();
         new KingdomListener();
         new DeleteWorldListener();
     }
@@ -184,6 +191,7 @@ public class TaleOfKingdoms implements ModInitializer {
 
     public void registerFeatures() {
         Registry.register(Registry.STRUCTURE_PIECE, new Identifier(MODID, "gateway_piece"), TOKStructures.GATEWAY);
+        Registry.register(Registry.STRUCTURE_PIECE, new Identifier(MODID, "gateway_shaft_piece"), TOKStructures.GATEWAY_SHAFT);
         Registry.register(Registry.STRUCTURE_PIECE, new Identifier(MODID, "reficule_village_piece"), TOKStructures.REFICULE_VILLAGE);
 
         // Register as features
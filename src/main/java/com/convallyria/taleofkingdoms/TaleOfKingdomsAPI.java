@@ -1,9 +1,11 @@
 package com.convallyria.taleofkingdoms;
 
 import com.convallyria.taleofkingdoms.client.packet.ClientPacketHandler;
+import com.convallyria.taleofkingdoms.common.config.ConfigWatcher;
 import com.convallyria.taleofkingdoms.common.scheduler.Scheduler;
 import com.convallyria.taleofkingdoms.common.schematic.CommonSchematicHandler;
 import com.convallyria.taleofkingdoms.common.schematic.SchematicHandler;
+import com.convallyria.taleofkingdoms.common.schematic.StructureTemplateStore;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstanceStorage;
 import com.convallyria.taleofkingdoms.managers.IManager;
 import com.convallyria.taleofkingdoms.managers.SoundManager;
@@ -18,6 +20,7 @@ import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +39,8 @@ public class TaleOfKingdomsAPI {
     @Environment(EnvType.CLIENT)
     private final Map<Identifier, ClientPacketHandler> clientPacketHandlers = new ConcurrentHashMap<>();
     private final Scheduler scheduler;
+    private final StructureTemplateStore templateStore;
+    private final ConfigWatcher configWatcher;
 
     public TaleOfKingdomsAPI(TaleOfKingdoms mod) {
         this.mod = mod;
@@ -43,6 +48,8 @@ public class TaleOfKingdomsAPI {
         SoundManager sm = new SoundManager(mod);
         managers.put(sm.getName(), sm);
         this.scheduler = new Scheduler();
+        this.templateStore = new StructureTemplateStore();
+        this.configWatcher = new ConfigWatcher(Paths.get("config", TaleOfKingdoms.MODID));
     }
 
     public EnvType getEnvironment() {
@@ -74,6 +81,16 @@ public class TaleOfKingdomsAPI {
         return scheduler;
     }
 
+    @NotNull
+    public StructureTemplateStore getTemplateStore() {
+        return templateStore;
+    }
+
+    @NotNull
+    public ConfigWatcher getConfigWatcher() {
+        return configWatcher;
+    }
+
     @NotNull
     public ConquestInstanceStorage getConquestInstanceStorage() {
         return cis;
@@ -3,10 +3,13 @@ package com.convallyria.taleofkingdoms;
 import com.convallyria.taleofkingdoms.client.commands.TaleOfKingdomsCommand;
 import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsAddCommand;
 import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsDebugCommand;
+import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsEventsCommand;
 import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsGetCommand;
 import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsInvokeCommand;
+import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsPasteCommand;
 import com.convallyria.taleofkingdoms.server.commands.debug.TaleOfKingdomsSetCommand;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.tree.ArgumentCommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
@@ -55,6 +58,23 @@ public class TaleOfKingdomsCommands {
                     .executes(TaleOfKingdomsAddCommand::addWorthiness)
                     .build();
 
+            // Events node /taleofkingdoms debug events [reset|timing]
+
+            LiteralCommandNode<ServerCommandSource> eventsNode = CommandManager
+                    .literal("events")
+                    .executes(new TaleOfKingdomsEventsCommand())
+                    .build();
+
+            LiteralCommandNode<ServerCommandSource> eventsResetNode = CommandManager
+                    .literal("reset")
+                    .executes(TaleOfKingdomsEventsCommand::reset)
+                    .build();
+
+            LiteralCommandNode<ServerCommandSource> eventsTimingNode = CommandManager
+                    .literal("timing")
+                    .executes(TaleOfKingdomsEventsCommand::toggleTiming)
+                    .build();
+
             // Get node /taleofkingdoms debug get [coins|worthiness]
 
             LiteralCommandNode<ServerCommandSource> getNode = CommandManager
@@ -99,6 +119,18 @@ public class TaleOfKingdomsCommands {
                     .executes(TaleOfKingdomsInvokeCommand::invokeGuildAttack)
                     .build();
 
+            // Paste node /taleofkingdoms debug paste [schematic]
+
+            LiteralCommandNode<ServerCommandSource> pasteNode = CommandManager
+                    .literal("paste")
+                    .executes(new TaleOfKingdomsPasteCommand())
+                    .build();
+
+            ArgumentCommandNode<ServerCommandSource, String> pasteSchematicArgumentNode = CommandManager
+                    .argument("schematic", StringArgumentType.greedyString())
+                    .executes(TaleOfKingdomsPasteCommand::paste)
+                    .build();
+
             // Set node /taleofkingdoms debug set [coins|worthiness] [integer]
 
             LiteralCommandNode<ServerCommandSource> setNode = CommandManager
@@ -135,6 +167,11 @@ public class TaleOfKingdomsCommands {
             addNode.addChild(addWorthinessNode);
             addWorthinessNode.addChild(addWorthinessArgumentNode);
 
+            // Events node
+            debugNode.addChild(eventsNode);
+            eventsNode.addChild(eventsResetNode);
+            eventsNode.addChild(eventsTimingNode);
+
             // Get node
             debugNode.addChild(getNode);
             getNode.addChild(getCoinsNode);
@@ -147,6 +184,10 @@ public class TaleOfKingdomsCommands {
             invokeNode.addChild(invokeSaveVillagersNode);
             invokeNode.addChild(invokeGuildAttackNode);
 
+            // Paste node
+            debugNode.addChild(pasteNode);
+            pasteNode.addChild(pasteSchematicArgumentNode);
+
             // Set node
             debugNode.addChild(setNode);
             setNode.addChild(setCoinsNode);
@@ -14,6 +14,7 @@ import com.convallyria.taleofkingdoms.client.packet.outgoing.OutgoingBuyItemPack
 import com.convallyria.taleofkingdoms.client.packet.outgoing.OutgoingFixGuildPacketHandler;
 import com.convallyria.taleofkingdoms.client.packet.outgoing.OutgoingHunterPacketHandler;
 import com.convallyria.taleofkingdoms.client.packet.outgoing.OutgoingInnkeeperPacketHandler;
+import com.convallyria.taleofkingdoms.client.packet.outgoing.OutgoingShopTransactionPacketHandler;
 import com.convallyria.taleofkingdoms.client.packet.outgoing.OutgoingToggleSellGuiPacketHandler;
 import com.convallyria.taleofkingdoms.common.listener.GameInstanceListener;
 import com.convallyria.taleofkingdoms.common.listener.StartWorldListener;
@@ -66,6 +67,7 @@ public class TaleOfKingdomsClient implements ClientModInitializer {
         registerHandler(new OutgoingFixGuildPacketHandler());
         registerHandler(new OutgoingToggleSellGuiPacketHandler());
         registerHandler(new OutgoingBuyItemPacketHandler());
+        registerHandler(new OutgoingShopTransactionPacketHandler());
         registerHandler(new OutgoingBankerInteractPacketHandler());
         registerHandler(new OutgoingHunterPacketHandler());
         registerHandler(new OutgoingInnkeeperPacketHandler());
@@ -8,6 +8,7 @@ import com.convallyria.taleofkingdoms.client.gui.entity.widget.ShopScreenInterfa
 import com.convallyria.taleofkingdoms.client.gui.image.Image;
 import com.convallyria.taleofkingdoms.client.gui.image.ScaleSize;
 import com.convallyria.taleofkingdoms.client.gui.shop.Shop;
+import com.convallyria.taleofkingdoms.client.gui.shop.ShopCart;
 import com.convallyria.taleofkingdoms.client.gui.shop.ShopPage;
 import com.convallyria.taleofkingdoms.client.translation.Translations;
 import com.convallyria.taleofkingdoms.client.utils.ShopBuyUtil;
@@ -23,8 +24,6 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 public class FoodShopScreen extends ScreenTOK implements ShopScreenInterface {
@@ -36,6 +35,7 @@ public class FoodShopScreen extends ScreenTOK implements ShopScreenInterface {
     private final ImmutableList<ShopItem> shopItems;
     private ShopItem selectedItem;
     private Shop shop;
+    private final ShopCart cart = new ShopCart();
 
     private static final ImmutableList<ScaleSize> SCALE_SIZES = ImmutableList.of(
             new ScaleSize(1, 810, 265),
@@ -82,6 +82,7 @@ public class FoodShopScreen extends ScreenTOK implements ShopScreenInterface {
     public void init() {
         super.init();
         this.addDrawableChild(new ButtonWidget(this.width / 2 + 132 , this.height / 2 - 55, 55, 20, Text.literal("Buy"), button -> {
+            if (selectedItem == null) return;
             int count = 1;
             if (Screen.hasShiftDown()) count = 16;
             ShopBuyUtil.buyItem(instance, player, selectedItem, count);
@@ -90,44 +91,45 @@ public class FoodShopScreen extends ScreenTOK implements ShopScreenInterface {
             this.renderTooltip(stack, text, x, y);
         }));
 
-        this.addDrawableChild(new ButtonWidget(this.width / 2 + 132, this.height / 2 - 30, 55, 20, Text.literal("Sell"), button -> openSellGui(entity, player)));
+        this.addDrawableChild(new ButtonWidget(this.width / 2 + 132, this.height / 2 - 30, 55, 20, Text.literal("Sell"), button -> openSellGui(player)));
+        this.addDrawableChild(new ButtonWidget(this.width / 2 + 132, this.height / 2 - 5, 55, 20, Text.literal("Add"), button -> {
+            if (selectedItem == null) return;
+            int count = 1;
+            if (Screen.hasShiftDown()) count = 16;
+            if (!cart.add(selectedItem, count)) {
+                player.sendMessage(Text.literal("Your cart cannot hold any more " + selectedItem.getName() + "."), false);
+            }
+        }, (button, stack, x, y) -> {
+            Text text = Text.literal("Add to your cart. Use Left Shift to add 16x.");
+            this.renderTooltip(stack, text, x, y);
+        }));
+        this.addDrawableChild(new ButtonWidget(this.width / 2 + 132, this.height / 2 + 20, 55, 20, Text.literal("Checkout"), button -> {
+            if (ShopBuyUtil.checkout(instance, player, cart.toTransaction())) cart.clear();
+        }, (button, stack, x, y) -> {
+            Text text = Text.literal("Buy everything in your cart at once.");
+            this.renderTooltip(stack, text, x, y);
+        }));
         this.addDrawableChild(new PageTurnWidget(this.width / 2 - 135, this.height / 2 - 100, false, button -> shop.previousPage(), true));
         this.addDrawableChild(new PageTurnWidget(this.width / 2 + 130, this.height / 2 - 100, true, button -> shop.nextPage(), true));
         this.addDrawableChild(new ButtonWidget(this.width / 2 - 160, this.height / 2 + 20, 45, 20, Text.literal("Exit"), button -> this.close()));
 
-        this.selectedItem = shopItems.get(0);
+        if (!shopItems.isEmpty()) this.selectedItem = shopItems.get(0);
 
-        final int maxPerSide = 18;
-        int page = 0;
-        int currentIteration = 0;
+        // Only one page of buttons is made, turning the page gives them different items
+        ShopPage page = new ShopPage();
         int currentY = this.height / 4;
         int currentX = this.width / 2 - 100;
-        Map<Integer, ShopPage> pages = new HashMap<>();
-        pages.put(page, new ShopPage(page));
-
-        for (ShopItem shopItem : shopItems) {
-            if (currentIteration == 9) {
+        for (int i = 0; i < ShopPage.SIZE; i++) {
+            if (i == ShopPage.SIZE / 2) {
                 currentY = this.height / 4;
                 currentX = currentX + 115;
             }
 
-            if (currentIteration >= maxPerSide) {
-                page++;
-                currentIteration = 0;
-                currentY = this.height / 4;
-                currentX = this.width / 2 - 100;
-                pages.put(page, new ShopPage(page));
-            }
-
-            ShopButtonWidget shopButtonWidget = this.addDrawableChild(new ShopButtonWidget(shopItem, this, currentX, currentY, this.textRenderer));
-            pages.get(page).addItem(shopButtonWidget);
-
+            page.addItem(this.addDrawableChild(new ShopButtonWidget(this, currentX, currentY, this.textRenderer)));
             currentY = currentY + 20;
-            currentIteration++;
         }
 
-        this.shop = new Shop(pages);
-        pages.get(0).show();
+        this.shop = new Shop(shopItems, page);
     }
 
     @Override
@@ -137,6 +139,9 @@ public class FoodShopScreen extends ScreenTOK implements ShopScreenInterface {
         if (this.selectedItem != null) {
             drawCenteredText(stack, this.textRenderer, "Selected Item Cost: " + this.selectedItem.getName() + " - " + this.selectedItem.getCost() + " Gold Coins", this.width / 2, this.height / 4 - 15, 0xFFFFFF);
         }
+        if (!cart.isEmpty()) {
+            drawCenteredText(stack, this.textRenderer, "Cart: " + cart.getCount() + " items - " + cart.getCost() + " Gold Coins", this.width / 2, this.height / 4 - 35, 0xFFFFFF);
+        }
     }
 
     @Override
@@ -121,7 +121,7 @@ public class GuildMasterScreen extends ScreenTOK {
                     PlayerInventory serverPlayerInventory = serverPlayerEntity.getInventory();
                     serverPlayerInventory.setStack(serverPlayerInventory.getSlotWithStack(stack), new ItemStack(Items.AIR));
                     instance.setCoins(playerUuid, instance.getCoins(playerUuid) - 3000);
-                    instance.rebuild(serverPlayerEntity, api, SchematicOptions.IGNORE_DEFENDERS);
+                    instance.rebuild(serverPlayerEntity, api, SchematicOptions.IGNORE_DEFENDERS, SchematicOptions.ONLY_CHANGED);
                 }
             });
             this.close();
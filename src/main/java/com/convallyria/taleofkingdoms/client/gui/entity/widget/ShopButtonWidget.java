@@ -7,41 +7,74 @@ import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.widget.ButtonWidget;
 import net.minecraft.client.render.GameRenderer;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.OrderedText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 
 public class ShopButtonWidget extends ButtonWidget {
 
+    private static final Identifier TEXTURE = new Identifier(TaleOfKingdoms.MODID, "textures/gui/gui.png");
+
     private final ShopScreenInterface shopScreen;
-    private final ShopItem shopItem;
+    private @Nullable ShopItem shopItem;
     protected final int width;
     private final int xPosition;
     private final int yPosition;
     private final boolean enabled = true;
     private final TextRenderer textRenderer;
 
-    public ShopButtonWidget(@NotNull ShopItem shopItem, @NotNull ShopScreenInterface shopScreen, int x, int y, TextRenderer textRenderer) {
-        super(x, y, 110, 20, Text.literal("Buy Button"), button -> shopScreen.setSelectedItem(shopItem));
+    // The name is laid out once per item, rather than every frame
+    private OrderedText name = OrderedText.EMPTY;
+    private int nameWidth;
+
+    public ShopButtonWidget(@NotNull ShopScreenInterface shopScreen, int x, int y, TextRenderer textRenderer) {
+        super(x, y, 110, 20, Text.literal("Buy Button"), button -> ((ShopButtonWidget) button).select());
         this.textRenderer = textRenderer;
         this.shopScreen = shopScreen;
-        this.shopItem = shopItem;
         this.width = 110;
         this.height = 20;
         this.xPosition = x;
         this.yPosition = y;
     }
 
+    @Nullable
+    public ShopItem getShopItem() {
+        return shopItem;
+    }
+
+    /**
+     * Shows an item on this button, or hides the button if there is no item.
+     * @param shopItem the item to show
+     */
+    public void setShopItem(@Nullable ShopItem shopItem) {
+        this.visible = shopItem != null;
+        if (shopItem == this.shopItem) return;
+        this.shopItem = shopItem;
+        if (shopItem == null) {
+            this.name = OrderedText.EMPTY;
+            this.nameWidth = 0;
+        } else {
+            this.name = Text.literal(shopItem.getName()).asOrderedText();
+            this.nameWidth = textRenderer.getWidth(name);
+        }
+    }
+
+    private void select() {
+        if (shopItem != null) shopScreen.setSelectedItem(shopItem);
+    }
+
     @Override
     public void renderButton(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-        Identifier identifier = new Identifier(TaleOfKingdoms.MODID,"textures/gui/gui.png");
+        if (shopItem == null) return;
         RenderSystem.setShader(GameRenderer::getPositionTexShader);
         RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
-        RenderSystem.setShaderTexture(0, identifier);
+        RenderSystem.setShaderTexture(0, TEXTURE);
         boolean flag = isMouseOver(mouseX, mouseY);
         int k;
-        if (shopScreen.getSelectedItem().equals(shopItem)) {
+        if (shopItem.equals(shopScreen.getSelectedItem())) {
             k = 2;
         } else {
             k = 1;
@@ -50,12 +83,14 @@ public class ShopButtonWidget extends ButtonWidget {
         this.drawTexture(matrices, xPosition, yPosition, 0, 46 + k * 20, width / 2, height);
         this.drawTexture(matrices, xPosition + width / 2, yPosition, 200 - width / 2, 46 + k * 20, width / 2, height);
         super.mouseDragged(mouseX, mouseY, 0, delta, delta); // Don't know what deltaX and deltaY are.
+        int color;
         if (!enabled) {
-            drawCenteredText(matrices, textRenderer, shopItem.getName(), (xPosition + width / 2) - 20, yPosition + (height - 8) / 2, 0xffffcc00);
+            color = 0xffffcc00;
         } else if (!flag) {
-            drawCenteredText(matrices, textRenderer, shopItem.getName(), (xPosition + width / 2) - 20, yPosition + (height - 8) / 2, 0xffffff);
+            color = 0xffffff;
         } else {
-            drawCenteredText(matrices, textRenderer, shopItem.getName(), (xPosition + width / 2) - 20, yPosition + (height - 8) / 2, 0x00cc00);
+            color = 0x00cc00;
         }
+        textRenderer.drawWithShadow(matrices, name, (float) ((xPosition + width / 2) - 20 - nameWidth / 2), (float) (yPosition + (height - 8) / 2), color);
     }
-}
\ No newline at end of file
+}
@@ -2,14 +2,11 @@ package com.convallyria.taleofkingdoms.client.gui.entity.widget;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
-import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
+import com.convallyria.taleofkingdoms.client.gui.shop.SellScreenHandlerFactory;
 import com.convallyria.taleofkingdoms.common.shop.ShopItem;
-import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.util.math.BlockPos;
 
 public interface ShopScreenInterface {
 
@@ -17,13 +14,7 @@ public interface ShopScreenInterface {
 
     void setSelectedItem(ShopItem selectedItem);
 
-    default void openSellGui(TOKEntity entity, PlayerEntity player) {
-        /*
-         * WHY is this what we need to do for a proper sell GUI?
-         * I HATE THIS!!!!
-         * someone please rewrite it so blocks are not needed
-         */
-        BlockPos pos = entity.getBlockPos().add(0, 2, 0);
+    default void openSellGui(PlayerEntity player) {
         final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
         if (MinecraftClient.getInstance().getServer() == null) {
             api.getClientHandler(TaleOfKingdoms.TOGGLE_SELL_GUI_PACKET_ID)
@@ -32,15 +23,9 @@ public interface ShopScreenInterface {
             return;
         }
 
-        api.getScheduler().queue(server -> {
-            ServerPlayerEntity serverPlayer = server.getPlayerManager().getPlayer(player.getUuid());
-            server.getOverworld().setBlockState(pos, TaleOfKingdoms.SELL_BLOCK.getDefaultState());
-            BlockState state = server.getOverworld().getBlockState(pos);
-            NamedScreenHandlerFactory screenHandlerFactory = state.createScreenHandlerFactory(server.getOverworld(), pos);
-            if (screenHandlerFactory != null) {
-                //With this call the server will request the client to open the appropriate Screenhandler
-                serverPlayer.openHandledScreen(screenHandlerFactory);
-            }
-        }, 1);
+        api.executeOnServer(() -> {
+            ServerPlayerEntity serverPlayer = MinecraftClient.getInstance().getServer().getPlayerManager().getPlayer(player.getUuid());
+            if (serverPlayer != null) serverPlayer.openHandledScreen(new SellScreenHandlerFactory());
+        });
     }
-}
\ No newline at end of file
+}
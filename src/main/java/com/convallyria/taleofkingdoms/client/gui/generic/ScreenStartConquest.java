@@ -81,7 +81,11 @@ public class ScreenStartConquest extends ScreenTOK {
             api.getConquestInstanceStorage().addConquest(worldName, instance, true);
 
             BlockPos pastePos = serverPlayer.getBlockPos().subtract(new Vec3i(0, 20, 0));
-            api.getSchematicHandler().pasteSchematic(Schematic.GUILD_CASTLE, serverPlayer, pastePos).thenAccept(oi -> api.executeOnServer(() -> {
+            loading = true;
+            api.getSchematicHandler().pasteSchematic(Schematic.GUILD_CASTLE, serverPlayer, pastePos, progress -> {
+                final Text message = Translations.BUILDING_CASTLE.getTranslation().copy().append(" " + (int) (progress * 100) + "%");
+                api.executeOnMain(() -> button.setMessage(message));
+            }).thenAccept(oi -> api.executeOnServer(() -> {
                 BlockPos start = new BlockPos(oi.getMaxX(), oi.getMaxY(), oi.getMaxZ());
                 BlockPos end = new BlockPos(oi.getMinX(), oi.getMinY(), oi.getMinZ());
                 instance.setStart(start);
@@ -131,7 +135,8 @@ public class ScreenStartConquest extends ScreenTOK {
 
     @Override
     public boolean shouldPause() {
-        return true;
+        // The castle is built over several server ticks, so the game can't be paused while it is loading
+        return !loading;
     }
 
     @Override
@@ -2,21 +2,15 @@ package com.convallyria.taleofkingdoms.client.gui.shop;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
-import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
 import com.mojang.blaze3d.systems.RenderSystem;
-import net.minecraft.block.Blocks;
-import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.client.render.GameRenderer;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
 
 import java.util.Optional;
 
@@ -66,29 +60,4 @@ public class ScreenSellItem extends HandledScreen<ScreenHandler> {
         super.init();
         titleX = (backgroundWidth - textRenderer.getWidth(title)) / 2;
     }
-
-    @Override
-    public void close() {
-        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
-        api.getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
-            World world = playerInventory.player.world;
-            instance.getGuildEntity(world, EntityTypes.BLACKSMITH).ifPresent(entity -> deleteBlock(api, entity));
-            instance.getGuildEntity(playerInventory.player.world, EntityTypes.FOODSHOP).ifPresent(entity -> deleteBlock(api, entity));
-        });
-        super.close();
-    }
-
-    protected void deleteBlock(TaleOfKingdomsAPI api, Entity entity) {
-        if (MinecraftClient.getInstance().getServer() == null) {
-            api.getClientHandler(TaleOfKingdoms.TOGGLE_SELL_GUI_PACKET_ID)
-                    .handleOutgoingPacket(TaleOfKingdoms.TOGGLE_SELL_GUI_PACKET_ID,
-                            playerInventory.player, true);
-            return;
-        }
-        api.getScheduler().queue(server -> {
-            BlockPos pos = entity.getBlockPos().add(0, 2, 0);
-            server.getOverworld().setBlockState(pos, Blocks.AIR.getDefaultState());
-        }, 1);
-    }
 }
-
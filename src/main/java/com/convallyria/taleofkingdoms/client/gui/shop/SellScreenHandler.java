@@ -2,9 +2,10 @@ package com.convallyria.taleofkingdoms.client.gui.shop;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
-import com.convallyria.taleofkingdoms.common.shop.ShopItem;
-import com.convallyria.taleofkingdoms.common.shop.ShopParser;
+import com.convallyria.taleofkingdoms.common.shop.SellValuation;
+import com.convallyria.taleofkingdoms.common.shop.ShopTransaction;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import com.convallyria.taleofkingdoms.server.world.ServerConquestInstance;
 import net.fabricmc.api.EnvType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
@@ -15,8 +16,9 @@ import net.minecraft.screen.ScreenHandler;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
 import java.util.Optional;
 
 public class SellScreenHandler extends ScreenHandler {
@@ -30,7 +32,7 @@ public class SellScreenHandler extends ScreenHandler {
         this(syncId, playerInventory, new SimpleInventory(1));
     }
 
-    //This constructor gets called from the BlockEntity on the server without calling the other constructor first, the server knows the inventory of the container
+    //This constructor gets called from the SellScreenHandlerFactory on the server without calling the other constructor first, the server knows the inventory of the container
     //and can therefore directly provide it as an argument. This inventory will then be synced to the client.
     public SellScreenHandler(int syncId, PlayerInventory playerInventory, Inventory inventory) {
         super(TaleOfKingdoms.SELL_SCREEN_HANDLER, syncId);
@@ -65,38 +67,58 @@ public class SellScreenHandler extends ScreenHandler {
     @Override
     public void onSlotClick(int i, int j, SlotActionType actionType, PlayerEntity playerEntity) {
         if (i == 0) {
-            ItemStack itemStack = playerEntity.currentScreenHandler.getCursorStack();
-            final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
-            if (api == null) return;
-            Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
-            if (instance.isEmpty()) return;
-
-            for (List<ShopItem> shopItems : ShopParser.guiShopItems.values()) {
-                for (ShopItem shopItem : shopItems) {
-                    if (itemStack.getItem() == shopItem.getItem()) {
-                        // Only set empty once we've found the item...
-                        playerEntity.currentScreenHandler.setCursorStack(ItemStack.EMPTY);
-
-                        // Don't run on local server if we're in a client environment
-                        // Otherwise, the coins will get added twice.
-                        if (playerEntity instanceof ServerPlayerEntity && TaleOfKingdoms.getAPI().getEnvironment() == EnvType.CLIENT) {
-                            return;
-                        }
-
-                        // Issue #59
-                        instance.get().addCoins(playerEntity.getUuid(), shopItem.getSell() * itemStack.getCount());
-                        return;
-                    }
-                }
-            }
+            // Sells the held stack. The cursor keeps whatever could not be sold.
+            SimpleInventory cursor = new SimpleInventory(playerEntity.currentScreenHandler.getCursorStack());
+            sell(playerEntity, SellValuation.of(cursor), cursor, true);
+            playerEntity.currentScreenHandler.setCursorStack(cursor.getStack(0));
             return;
         }
         super.onSlotClick(i, j, actionType, playerEntity);
     }
 
-    // Shift + Player Inv Slot
+    // Shift + Player Inv Slot sells every matching item in the player's inventory
     @Override
     public ItemStack transferSlot(PlayerEntity player, int invSlot) {
+        if (invSlot <= 0 || invSlot >= this.slots.size()) return ItemStack.EMPTY;
+        ItemStack itemStack = this.slots.get(invSlot).getStack();
+        if (itemStack.isEmpty()) return ItemStack.EMPTY;
+        sell(player, SellValuation.ofMatching(player.getInventory(), itemStack.getItem()), player.getInventory(), true);
         return ItemStack.EMPTY;
     }
+
+    @Override
+    public void close(PlayerEntity player) {
+        super.close(player);
+        // Anything left in the inventory is sold when the screen closes, and the inventory gives back what could not be sold.
+        // Only the server has the real inventory, so it credits the player whichever environment it is in.
+        if (player instanceof ServerPlayerEntity serverPlayer && !inventory.isEmpty()) {
+            ConquestInstance instance = sell(player, SellValuation.of(inventory), inventory, false);
+            if (instance != null && TaleOfKingdoms.getAPI().getEnvironment() == EnvType.SERVER) {
+                ServerConquestInstance.sync(serverPlayer, instance);
+            }
+        }
+        inventory.onClose(player);
+    }
+
+    /**
+     * Sells valued items and credits the player once for all of them.
+     * @param shared whether both sides of the game run this sale, in which case only one of them credits the player
+     * @return the instance that was credited, or null if nothing was sold
+     */
+    @Nullable
+    private static ConquestInstance sell(PlayerEntity player, SellValuation valuation, Inventory source, boolean shared) {
+        if (valuation.isEmpty()) return null;
+        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+        if (api == null) return null;
+        Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
+        if (instance.isEmpty()) return null;
+
+        // Don't run on local server if we're in a client environment
+        // Otherwise, the coins will get added twice.
+        boolean credit = !shared || !(player instanceof ServerPlayerEntity && api.getEnvironment() == EnvType.CLIENT);
+        ShopTransaction.Result result = valuation.sell(instance.get(), player, source, credit);
+        // The server always sees the sale, so it is the one to tell the player about it
+        if (player instanceof ServerPlayerEntity) player.sendMessage(Text.literal(result.message()), false);
+        return result.success() ? instance.get() : null;
+    }
 }
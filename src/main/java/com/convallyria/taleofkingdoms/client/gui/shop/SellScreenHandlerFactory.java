@@ -0,0 +1,47 @@
+package com.convallyria.taleofkingdoms.client.gui.shop;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.client.gui.shop.inventory.ImplementedInventory;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.screen.NamedScreenHandlerFactory;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.text.Text;
+import net.minecraft.util.collection.DefaultedList;
+
+/**
+ * Opens the sell screen for one player, backed by an inventory that only exists while the screen is open.
+ * <p>
+ * Nothing is placed in the world, so any number of players can sell at the same shop at once.
+ * Items left in the inventory when the screen closes are sold, and anything that cannot be sold is given back.
+ */
+public class SellScreenHandlerFactory implements NamedScreenHandlerFactory {
+
+    @Override
+    public ScreenHandler createMenu(int syncId, PlayerInventory playerInventory, PlayerEntity player) {
+        return new SellScreenHandler(syncId, playerInventory, new SellInventory());
+    }
+
+    @Override
+    public Text getDisplayName() {
+        return Text.translatable(TaleOfKingdoms.SELL_BLOCK.getTranslationKey());
+    }
+
+    private static final class SellInventory implements ImplementedInventory {
+
+        private final DefaultedList<ItemStack> items = DefaultedList.ofSize(9, ItemStack.EMPTY);
+
+        @Override
+        public DefaultedList<ItemStack> getItems() {
+            return items;
+        }
+
+        @Override
+        public void onClose(PlayerEntity player) {
+            for (int slot = 0; slot < items.size(); slot++) {
+                player.getInventory().offerOrDrop(removeStack(slot));
+            }
+        }
+    }
+}
@@ -1,18 +1,22 @@
 package com.convallyria.taleofkingdoms.client.gui.shop;
 
-import java.util.Map;
+import com.convallyria.taleofkingdoms.common.shop.ShopItem;
 
+import java.util.List;
+
+/**
+ * Pages through a list of items, showing one page at a time on a single recycled {@link ShopPage}.
+ */
 public final class Shop {
 
-    private final Map<Integer, ShopPage> pages;
+    private final List<ShopItem> items;
+    private final ShopPage page;
     private int currentPage = 0;
 
-    public Shop(Map<Integer, ShopPage> pages) {
-        this.pages = pages;
-    }
-
-    public Map<Integer, ShopPage> getPages() {
-        return pages;
+    public Shop(List<ShopItem> items, ShopPage page) {
+        this.items = items;
+        this.page = page;
+        show();
     }
 
     public int getCurrentPage() {
@@ -20,30 +24,26 @@ public final class Shop {
     }
 
     public void setCurrentPage(int currentPage) {
-        this.currentPage = currentPage;
+        this.currentPage = Math.max(0, Math.min(currentPage, getMaxPages() - 1));
+        show();
     }
 
     public int getMaxPages() {
-        return pages.size();
+        return Math.max(1, (items.size() + ShopPage.SIZE - 1) / ShopPage.SIZE);
     }
 
     public void nextPage() {
-        final int currentPage = getCurrentPage();
-        if (getPages().size() <= currentPage + 1) {
-            return;
-        }
-
-        getPages().get(currentPage).hide();
+        if (currentPage + 1 >= getMaxPages()) return;
         setCurrentPage(currentPage + 1);
-        getPages().get(getCurrentPage()).show();
     }
 
     public void previousPage() {
-        final int currentPage = getCurrentPage();
         if (currentPage == 0) return;
-        pages.get(currentPage).hide();
-        this.currentPage = currentPage - 1;
         setCurrentPage(currentPage - 1);
-        getPages().get(getCurrentPage()).show();
+    }
+
+    private void show() {
+        final int from = currentPage * ShopPage.SIZE;
+        page.show(items.subList(Math.min(from, items.size()), Math.min(from + ShopPage.SIZE, items.size())));
     }
 }
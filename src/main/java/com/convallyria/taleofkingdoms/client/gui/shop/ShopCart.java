@@ -0,0 +1,64 @@
+package com.convallyria.taleofkingdoms.client.gui.shop;
+
+import com.convallyria.taleofkingdoms.common.shop.ShopItem;
+import com.convallyria.taleofkingdoms.common.shop.ShopTransaction;
+import it.unimi.dsi.fastutil.objects.Reference2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Items a player has picked in a shop screen, bought together as one {@link ShopTransaction}.
+ */
+public final class ShopCart {
+
+    private final Reference2IntLinkedOpenHashMap<ShopItem> items = new Reference2IntLinkedOpenHashMap<>();
+
+    /**
+     * Adds an item to the cart.
+     * @param shopItem the item to add
+     * @param count how many to add
+     * @return false if the cart cannot hold any more of this item
+     */
+    public boolean add(ShopItem shopItem, int count) {
+        if (!items.containsKey(shopItem) && items.size() >= ShopTransaction.MAX_ENTRIES) return false;
+        final int total = items.getInt(shopItem) + count;
+        if (total > ShopTransaction.MAX_COUNT) return false;
+        items.put(shopItem, total);
+        return true;
+    }
+
+    public long getCost() {
+        long cost = 0;
+        for (Reference2IntMap.Entry<ShopItem> entry : items.reference2IntEntrySet()) {
+            cost += (long) entry.getKey().getCost() * entry.getIntValue();
+        }
+        return cost;
+    }
+
+    /**
+     * @return the number of items in the cart, counting every one of each item
+     */
+    public int getCount() {
+        int count = 0;
+        for (int value : items.values()) count += value;
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public void clear() {
+        items.clear();
+    }
+
+    public ShopTransaction toTransaction() {
+        final List<ShopTransaction.Entry> entries = new ArrayList<>(items.size());
+        for (Reference2IntMap.Entry<ShopItem> entry : items.reference2IntEntrySet()) {
+            entries.add(new ShopTransaction.Entry(entry.getKey(), entry.getIntValue(), false));
+        }
+        return new ShopTransaction(entries);
+    }
+}
@@ -1,39 +1,42 @@
 package com.convallyria.taleofkingdoms.client.gui.shop;
 
 import com.convallyria.taleofkingdoms.client.gui.entity.widget.ShopButtonWidget;
+import com.convallyria.taleofkingdoms.common.shop.ShopItem;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * The buttons of the page on screen. There is only ever one page of buttons,
+ * and turning the page gives the same buttons the items of the new page.
+ */
 public final class ShopPage {
 
-    private final int page;
-    private final List<ShopButtonWidget> buttonWidgets;
+    public static final int SIZE = 18;
 
-    public ShopPage(int page) {
-        this.page = page;
-        this.buttonWidgets = new ArrayList<>();
-    }
+    private final List<ShopButtonWidget> buttonWidgets;
 
-    public int getPage() {
-        return page;
+    public ShopPage() {
+        this.buttonWidgets = new ArrayList<>(SIZE);
     }
 
     public void addItem(ShopButtonWidget shopButtonWidget) {
-        if (buttonWidgets.size() >= 18) throw new IllegalStateException("Size of list cannot be greater than 18");
+        if (buttonWidgets.size() >= SIZE) throw new IllegalStateException("Size of list cannot be greater than " + SIZE);
         buttonWidgets.add(shopButtonWidget);
-        shopButtonWidget.visible = false;
+        shopButtonWidget.setShopItem(null);
     }
 
-    public void removeItem(ShopButtonWidget shopButtonWidget) {
-        buttonWidgets.remove(shopButtonWidget);
+    /**
+     * Shows items on the buttons. Buttons without an item are hidden.
+     * @param items the items of the page, at most {@link #SIZE}
+     */
+    public void show(List<ShopItem> items) {
+        for (int i = 0; i < buttonWidgets.size(); i++) {
+            buttonWidgets.get(i).setShopItem(i < items.size() ? items.get(i) : null);
+        }
     }
 
     public void hide() {
-        buttonWidgets.forEach(shopButtonWidget -> shopButtonWidget.visible = false);
-    }
-
-    public void show() {
-        buttonWidgets.forEach(shopButtonWidget -> shopButtonWidget.visible = true);
+        buttonWidgets.forEach(shopButtonWidget -> shopButtonWidget.setShopItem(null));
     }
 }
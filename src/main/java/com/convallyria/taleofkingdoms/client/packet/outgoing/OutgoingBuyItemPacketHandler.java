@@ -3,10 +3,12 @@ package com.convallyria.taleofkingdoms.client.packet.outgoing;
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.client.packet.ClientPacketHandler;
 import com.convallyria.taleofkingdoms.common.packet.context.PacketContext;
+import com.convallyria.taleofkingdoms.common.shop.ShopItem;
 import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -24,7 +26,10 @@ public final class OutgoingBuyItemPacketHandler extends ClientPacketHandler {
     @Override
     public void handleOutgoingPacket(Identifier identifier, @NotNull PlayerEntity player, @Nullable Object... data) {
         PacketByteBuf passedData = new PacketByteBuf(Unpooled.buffer());
-        passedData.writeString((String) data[0]);
+        ShopItem shopItem = (ShopItem) data[0];
+        passedData.writeVarInt(shopItem.getId());
+        // Lets the server reject the purchase if its shop config differs from ours
+        passedData.writeVarInt(Registry.ITEM.getRawId(shopItem.getItem()));
         passedData.writeInt((Integer) data[1]);
         sendPacket(player, passedData);
     }
@@ -3,6 +3,7 @@ package com.convallyria.taleofkingdoms.client.utils;
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.common.shop.ShopItem;
+import com.convallyria.taleofkingdoms.common.shop.ShopTransaction;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -12,6 +13,7 @@ import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
 
 @Environment(EnvType.CLIENT)
 public class ShopBuyUtil {
@@ -24,7 +26,7 @@ public class ShopBuyUtil {
                 if (server == null) {
                     api.getClientHandler(TaleOfKingdoms.BUY_ITEM_PACKET_ID)
                             .handleOutgoingPacket(TaleOfKingdoms.BUY_ITEM_PACKET_ID,
-                                    player, shopItem.getName(), count);
+                                    player, shopItem, count);
                     return;
                 }
 
@@ -46,4 +48,39 @@ public class ShopBuyUtil {
             });
         }
     }
+
+    /**
+     * Sends a whole cart as one transaction, which the server checks and applies all at once.
+     * If the cart is empty or the player cannot afford it, the player is told why and nothing is sent.
+     * @return true if the transaction was sent to the server
+     */
+    public static boolean checkout(ConquestInstance instance, PlayerEntity player, ShopTransaction transaction) {
+        if (transaction.isEmpty()) {
+            player.sendMessage(Text.literal("Your cart is empty."), false);
+            return false;
+        }
+
+        final long available = instance.getCoins(player.getUuid()) + transaction.getEarnings();
+        if (available < transaction.getCost()) {
+            player.sendMessage(Text.literal("Not enough coins: your cart costs " + transaction.getCost() + " Gold Coins but you only have " + available + "."), false);
+            return false;
+        }
+
+        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+        MinecraftServer server = MinecraftClient.getInstance().getServer();
+        if (server == null) {
+            api.getClientHandler(TaleOfKingdoms.SHOP_TRANSACTION_PACKET_ID)
+                    .handleOutgoingPacket(TaleOfKingdoms.SHOP_TRANSACTION_PACKET_ID,
+                            player, transaction);
+            return true;
+        }
+
+        server.execute(() -> {
+            ServerPlayerEntity serverPlayerEntity = server.getPlayerManager().getPlayer(player.getUuid());
+            if (serverPlayerEntity == null) return;
+            ShopTransaction.Result result = transaction.apply(instance, serverPlayerEntity);
+            serverPlayerEntity.sendMessage(Text.literal(result.message()), false);
+        });
+        return true;
+    }
 }
@@ -0,0 +1,134 @@
+package com.convallyria.taleofkingdoms.common.config;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Watches the mod's config folder and reloads json config files when they change, while the server is running.
+ * <p>
+ * Files are re-parsed on the watcher thread. A {@link Reloader} should parse and validate the file completely,
+ * then swap the result in with a single write, so that readers always see either the old or the new version.
+ * If reloading fails, the previous version stays in use.
+ */
+public class ConfigWatcher {
+
+    /**
+     * Editors often write a file in several steps, so changes are only read once the file has been left alone for this long.
+     */
+    private static final long SETTLE_MILLIS = 250;
+
+    private final Path directory;
+    private final Map<String, Reloader> reloaders = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    public ConfigWatcher(Path directory) {
+        this.directory = directory;
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            if (TaleOfKingdoms.config.mainConfig.watchConfigFiles) start();
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> stop());
+    }
+
+    /**
+     * Reloads a file whenever it changes.
+     * @param fileName the name of the file in the config folder
+     * @param reloader the function that parses the file and swaps it in
+     */
+    public void watch(String fileName, Reloader reloader) {
+        reloaders.put(fileName, reloader);
+    }
+
+    public synchronized void start() {
+        if (watchService != null) return;
+        final WatchService service;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            TaleOfKingdoms.LOGGER.error("Unable to watch " + directory + " for changes", e);
+            return;
+        }
+
+        this.watchService = service;
+        Thread thread = new Thread(() -> run(service), "TaleOfKingdoms Config Watcher");
+        thread.setDaemon(true);
+        thread.start();
+        TaleOfKingdoms.LOGGER.info("Watching " + directory + " for changes to " + reloaders.keySet());
+    }
+
+    public synchronized void stop() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            TaleOfKingdoms.LOGGER.error("Error closing config watcher", e);
+        }
+        this.watchService = null;
+    }
+
+    private void run(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Set<String> changed = new HashSet<>();
+                do {
+                    Thread.sleep(SETTLE_MILLIS);
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            changed.addAll(reloaders.keySet());
+                        } else if (event.context() instanceof Path path) {
+                            changed.add(path.getFileName().toString());
+                        }
+                    }
+                    if (!key.reset()) {
+                        TaleOfKingdoms.LOGGER.warn("Config folder " + directory + " is no longer accessible, stopped watching it");
+                        return;
+                    }
+                } while ((key = service.poll()) != null);
+                changed.forEach(this::reload);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher has been stopped
+        }
+    }
+
+    /**
+     * Reloads a watched file now.
+     * @param fileName the name of the file in the config folder
+     * @return true if the file is watched and was reloaded successfully
+     */
+    public boolean reload(String fileName) {
+        final Reloader reloader = reloaders.get(fileName);
+        if (reloader == null) return false;
+        try {
+            reloader.reload(directory.resolve(fileName));
+            TaleOfKingdoms.LOGGER.info("Reloaded " + fileName);
+            return true;
+        } catch (Exception e) {
+            TaleOfKingdoms.LOGGER.error("Unable to reload " + fileName + ", the previous version will be kept", e);
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Reloader {
+        /**
+         * Parses and validates a file, then swaps it in. Nothing should be changed if this throws.
+         * @param path the changed file
+         */
+        void reload(Path path) throws IOException;
+    }
+}
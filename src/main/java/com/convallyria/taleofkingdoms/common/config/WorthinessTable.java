@@ -0,0 +1,109 @@
+package com.convallyria.taleofkingdoms.common.config;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.Difficulty;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable copy of <i>worthiness.json</i>: the worthiness each mob is worth, and the multiplier for each difficulty.
+ * <p>
+ * Mobs are resolved to their {@link EntityType} when the file is parsed, so a kill is an identity map lookup and an array load,
+ * whatever language the game is in. Mobs may be written as an entity id, such as <i>minecraft:cave_spider</i>,
+ * or as their English name, such as <i>Cave Spider</i>.
+ */
+public final class WorthinessTable {
+
+    public static final WorthinessTable EMPTY = new WorthinessTable(new Reference2IntOpenHashMap<>(), defaultDifficulties());
+
+    private final Reference2IntMap<EntityType<?>> mobs;
+    private final int[] difficulties;
+
+    private WorthinessTable(Reference2IntOpenHashMap<EntityType<?>> mobs, int[] difficulties) {
+        mobs.defaultReturnValue(1);
+        mobs.trim();
+        this.mobs = mobs;
+        this.difficulties = difficulties;
+    }
+
+    /**
+     * @param type the type of the mob
+     * @return the mob's worthiness if and only if the entry exists, else 1
+     */
+    public int getMobWorthiness(EntityType<?> type) {
+        return mobs.getInt(type);
+    }
+
+    /**
+     * @param difficulty the difficulty
+     * @return the difficulty's multiplier if and only if the entry exists, else 1
+     */
+    public int getDifficultyMultiplier(Difficulty difficulty) {
+        return difficulties[difficulty.getId()];
+    }
+
+    /**
+     * Parses and validates a worthiness json.
+     * @param reader the json to read
+     * @return the parsed {@link WorthinessTable}
+     * @throws JsonParseException if the json is invalid, or any value is not a whole number
+     */
+    @NotNull
+    public static WorthinessTable parse(Reader reader) throws JsonParseException {
+        JsonObject json = new Gson().fromJson(reader, JsonObject.class);
+        if (json == null) throw new JsonParseException("worthiness.json is empty");
+
+        Reference2IntOpenHashMap<EntityType<?>> mobs = new Reference2IntOpenHashMap<>();
+        int[] difficulties = defaultDifficulties();
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            if (entry.getKey().equals("difficulty")) {
+                if (!entry.getValue().isJsonObject()) throw new JsonParseException("difficulty must be an object");
+                for (Map.Entry<String, JsonElement> difficultyEntry : entry.getValue().getAsJsonObject().entrySet()) {
+                    Difficulty difficulty = Difficulty.byName(difficultyEntry.getKey().toLowerCase(TaleOfKingdoms.DEFAULT_LOCALE));
+                    if (difficulty == null) throw new JsonParseException("Unknown difficulty " + difficultyEntry.getKey());
+                    difficulties[difficulty.getId()] = getInt(difficultyEntry);
+                }
+            } else {
+                EntityType<?> type = getEntityType(entry.getKey());
+                if (type == null) throw new JsonParseException("Unknown mob " + entry.getKey());
+                mobs.put(type, getInt(entry));
+            }
+        }
+        return new WorthinessTable(mobs, difficulties);
+    }
+
+    private static int[] defaultDifficulties() {
+        int[] difficulties = new int[Difficulty.values().length];
+        Arrays.fill(difficulties, 1);
+        return difficulties;
+    }
+
+    @Nullable
+    private static EntityType<?> getEntityType(String key) {
+        // English names, which the file used to be keyed by, become ids by swapping spaces for underscores
+        Identifier identifier = Identifier.tryParse(key.toLowerCase(TaleOfKingdoms.DEFAULT_LOCALE).replace(' ', '_'));
+        if (identifier == null) return null;
+        return Registry.ENTITY_TYPE.getOrEmpty(identifier).orElse(null);
+    }
+
+    private static int getInt(Map.Entry<String, JsonElement> entry) {
+        JsonElement value = entry.getValue();
+        if (!value.isJsonPrimitive() || !value.getAsJsonPrimitive().isNumber()) {
+            throw new JsonParseException(entry.getKey() + " must be a number, but was " + value);
+        }
+        return value.getAsInt();
+    }
+}
@@ -22,4 +22,21 @@ public class MainConfig implements ConfigData {
 	@ConfigEntry.Gui.Tooltip
 	@Comment("Percent chance that a reficule village can spawn in a selected chunk")
 	public int reficuleVillageSpawnRate = 70;
-}
\ No newline at end of file
+
+	@ConfigEntry.Gui.Tooltip
+	@Comment("Whether the chunks around the guild should be generated before it is pasted, rather than while it is being pasted")
+	public boolean preGenerateGuildChunks = true;
+
+	@ConfigEntry.Gui.Tooltip
+	@Comment("Whether shop.json and worthiness.json should be reloaded as soon as they are changed, while a world is running")
+	public boolean watchConfigFiles = true;
+
+	@ConfigEntry.Gui.Tooltip
+	@Comment("Whether damage taken inside the guild, or by this mod's entities, should be changed by guildDamagePercent")
+	public boolean modifyGuildDamage = false;
+
+	@ConfigEntry.Gui.Tooltip
+	@ConfigEntry.BoundedDiscrete(min = 0, max = 1000)
+	@Comment("Percent of the damage taken inside the guild, or by this mod's entities, while modifyGuildDamage is enabled, from 0 to 1000")
+	public int guildDamagePercent = 50;
+}
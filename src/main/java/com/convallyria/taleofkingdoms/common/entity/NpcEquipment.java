@@ -0,0 +1,64 @@
+package com.convallyria.taleofkingdoms.common.entity;
+
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.Enchantments;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.util.Hand;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The items NPCs hold. Each one is built once as a template, and entities are handed a copy of it
+ * so that wearing down or changing their own item never touches the template.
+ */
+public enum NpcEquipment {
+    IRON_SWORD(Items.IRON_SWORD, null),
+    IRON_HOE(Items.IRON_HOE, null),
+    BOW(Items.BOW, null),
+    CROSSBOW(Items.CROSSBOW, null),
+    // Reficule equipment is enchanted as they want to look fancy :)
+    REFICULE_SWORD(Items.IRON_SWORD, Enchantments.MENDING),
+    REFICULE_BOW(Items.BOW, Enchantments.POWER),
+    REFICULE_WAND(Items.STICK, Enchantments.MENDING);
+
+    private final Item item;
+    private final @Nullable Enchantment enchantment;
+    private volatile ItemStack template;
+
+    NpcEquipment(Item item, @Nullable Enchantment enchantment) {
+        this.item = item;
+        this.enchantment = enchantment;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    /**
+     * @return a new copy of this equipment
+     */
+    @NotNull
+    public ItemStack copy() {
+        ItemStack template = this.template;
+        if (template == null) {
+            // Building it twice on two threads is harmless, the template is never modified afterwards
+            template = new ItemStack(item);
+            if (enchantment != null) template.addEnchantment(enchantment, 1);
+            this.template = template;
+        }
+        return template.copy();
+    }
+
+    /**
+     * Puts a copy of this equipment in the entity's hand, unless it is already holding this item.
+     * @param entity the entity to equip
+     * @param hand the hand to put it in
+     */
+    public void equip(LivingEntity entity, Hand hand) {
+        if (entity.getStackInHand(hand).isOf(item)) return;
+        entity.setStackInHand(hand, copy());
+    }
+}
@@ -6,12 +6,20 @@ import net.minecraft.entity.ai.goal.LookAroundGoal;
 import net.minecraft.entity.ai.goal.SwimGoal;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
+import net.minecraft.entity.mob.Monster;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Predicate;
+
 public abstract class TOKEntity extends PathAwareEntity {
 
+    /**
+     * Target predicate shared by every NPC that attacks monsters.
+     */
+    public static final Predicate<LivingEntity> IS_MONSTER = livingEntity -> livingEntity instanceof Monster;
+
     protected TOKEntity(@NotNull EntityType<? extends PathAwareEntity> entityType, @NotNull World world) {
         super(entityType, world);
     }
@@ -1,6 +1,7 @@
 package com.convallyria.taleofkingdoms.common.entity.ai.goal;
 
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
+import com.convallyria.taleofkingdoms.common.entity.ai.pathing.GuildPathCache;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.RangedAttackMob;
 import net.minecraft.entity.ai.goal.Goal;
@@ -83,7 +84,7 @@ public class BowAttackGoal<T extends TOKEntity & RangedAttackMob> extends Goal {
                 this.actor.getNavigation().stop();
                 ++this.combatTicks;
             } else {
-                this.actor.getNavigation().startMovingTo(livingEntity, this.speed);
+                GuildPathCache.startMovingTo(this.actor, livingEntity, this.speed);
                 this.combatTicks = -1;
             }
 
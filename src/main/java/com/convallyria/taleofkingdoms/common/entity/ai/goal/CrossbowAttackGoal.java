@@ -1,5 +1,6 @@
 package com.convallyria.taleofkingdoms.common.entity.ai.goal;
 
+import com.convallyria.taleofkingdoms.common.entity.ai.pathing.GuildPathCache;
 import net.minecraft.entity.CrossbowUser;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.RangedAttackMob;
@@ -80,7 +81,7 @@ public class CrossbowAttackGoal<T extends MobEntity & RangedAttackMob & Crossbow
             if (bl3) {
                 --this.cooldown;
                 if (this.cooldown <= 0) {
-                    this.actor.getNavigation().startMovingTo(livingEntity, this.isUncharged() ? this.speed : this.speed * 0.5D);
+                    GuildPathCache.startMovingTo(this.actor, livingEntity, this.isUncharged() ? this.speed : this.speed * 0.5D);
                     this.cooldown = COOLDOWN_RANGE.get(this.actor.getRandom());
                 }
             } else {
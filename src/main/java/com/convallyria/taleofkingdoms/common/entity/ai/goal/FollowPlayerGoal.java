@@ -1,6 +1,8 @@
 package com.convallyria.taleofkingdoms.common.entity.ai.goal;
 
 import com.convallyria.taleofkingdoms.common.entity.MovementVaried;
+import com.convallyria.taleofkingdoms.common.entity.ai.pathing.GuildPathCache;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.ai.pathing.BirdNavigation;
@@ -11,13 +13,12 @@ import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.player.PlayerEntity;
 
 import java.util.EnumSet;
-import java.util.List;
-import java.util.Objects;
 import java.util.function.Predicate;
 
 public class FollowPlayerGoal extends Goal {
+    private static final int SEARCH_INTERVAL = 10;
+    private static final Predicate<Entity> VISIBLE_PLAYER = entity -> !entity.isInvisible();
     private final MobEntity mob;
-    private final Predicate<PlayerEntity> targetPredicate;
     private LivingEntity target;
     private final double speed;
     private final EntityNavigation navigation;
@@ -25,10 +26,10 @@ public class FollowPlayerGoal extends Goal {
     private final float minDistance;
     private float oldWaterPathFindingPenalty;
     private final float maxDistance;
+    private int searchCooldownTicks;
 
     public FollowPlayerGoal(MobEntity mob, double speed, float minDistance, float maxDistance) {
         this.mob = mob;
-        this.targetPredicate = Objects::nonNull;
         this.speed = speed;
         this.navigation = mob.getNavigation();
         this.minDistance = minDistance;
@@ -45,14 +46,18 @@ public class FollowPlayerGoal extends Goal {
             if (!movementVaried.isMovementEnabled()) return false;
         }
 
-        List<PlayerEntity> list = this.mob.world.getEntitiesByClass(PlayerEntity.class, this.mob.getBoundingBox().expand(this.maxDistance), this.targetPredicate);
-        if (!list.isEmpty()) {
-            for (PlayerEntity playerEntity : list) {
-                if (!playerEntity.isInvisible()) {
-                    this.target = playerEntity;
-                    return true;
-                }
-            }
+        // Searching is only worth doing every so often, randomised so that mobs don't all search on the same tick
+        if (this.searchCooldownTicks > 0) {
+            this.searchCooldownTicks--;
+            return false;
+        }
+        this.searchCooldownTicks = SEARCH_INTERVAL + this.mob.getRandom().nextInt(SEARCH_INTERVAL);
+
+        // Only looks through the player list, rather than scanning every entity section in range
+        PlayerEntity player = this.mob.world.getClosestPlayer(this.mob.getX(), this.mob.getY(), this.mob.getZ(), this.maxDistance, VISIBLE_PLAYER);
+        if (player != null) {
+            this.target = player;
+            return true;
         }
 
         return false;
@@ -92,7 +97,7 @@ public class FollowPlayerGoal extends Goal {
                 double f = this.mob.getZ() - this.target.getZ();
                 double g = d * d + e * e + f * f;
                 if (g > (double)(this.minDistance * this.minDistance)) {
-                    this.navigation.startMovingTo(this.target, this.speed);
+                    GuildPathCache.startMovingTo(this.mob, this.target, this.speed);
                     if (g > (maxDistance * maxDistance)) {
                         this.mob.teleport(target.getX(), target.getY(), target.getZ(), true);
                     }
@@ -101,7 +106,7 @@ public class FollowPlayerGoal extends Goal {
                     if (g <= (double)this.minDistance || target.getX() == this.mob.getX() && target.getY() == this.mob.getY() && target.getZ() == this.mob.getZ()) {
                         double h = this.target.getX() - this.mob.getX();
                         double i = this.target.getZ() - this.mob.getZ();
-                        this.navigation.startMovingTo(this.mob.getX() - h, this.mob.getY(), this.mob.getZ() - i, this.speed);
+                        GuildPathCache.startMovingTo(this.mob, this.mob.getX() - h, this.mob.getY(), this.mob.getZ() - i, this.speed);
                     }
                 }
             }
@@ -1,19 +1,25 @@
 package com.convallyria.taleofkingdoms.common.entity.ai.goal;
 
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.player.PlayerEntity;
 
-import java.util.List;
+import java.util.function.Predicate;
 
 public class HealPlayerGoal extends Goal {
 
+    private static final int SEARCH_INTERVAL = 10;
+    private static final int REGENERATION_TICKS = 60;
+    private static final int REFRESH_TICKS = 10;
+    private static final Predicate<Entity> VISIBLE_PLAYER = entity -> entity.isAlive() && !entity.isInvisible();
+
     private final MobEntity mob;
     private LivingEntity target;
     private final float maxDistance;
+    private int searchCooldownTicks;
 
     public HealPlayerGoal(MobEntity mob, float maxDistance) {
         this.mob = mob;
@@ -22,21 +28,20 @@ public class HealPlayerGoal extends Goal {
 
     @Override
     public boolean canStart() {
-        List<PlayerEntity> list = this.mob.world.getEntitiesByClass(PlayerEntity.class, this.mob.getBoundingBox().expand(this.maxDistance), PlayerEntity::isAlive);
-        if (!list.isEmpty()) {
-            for (PlayerEntity playerEntity : list) {
-                if (!playerEntity.isInvisible()) {
-                    this.target = playerEntity;
-                    return true;
-                }
-            }
+        // Staggered re-checks, see FollowPlayerGoal
+        if (this.searchCooldownTicks > 0) {
+            this.searchCooldownTicks--;
+            return false;
         }
-        return false;
+        this.searchCooldownTicks = SEARCH_INTERVAL + this.mob.getRandom().nextInt(SEARCH_INTERVAL);
+
+        this.target = this.mob.world.getClosestPlayer(this.mob.getX(), this.mob.getY(), this.mob.getZ(), this.maxDistance, VISIBLE_PLAYER);
+        return this.target != null;
     }
 
     @Override
     public boolean shouldContinue() {
-        return this.target != null &&  this.mob.squaredDistanceTo(this.target) < (double)(this.maxDistance * this.maxDistance);
+        return this.target != null && this.target.isAlive() && this.mob.squaredDistanceTo(this.target) < (double)(this.maxDistance * this.maxDistance);
     }
 
     @Override
@@ -47,8 +52,11 @@ public class HealPlayerGoal extends Goal {
     @Override
     public void tick() {
         if (this.target != null) {
-            StatusEffectInstance statusEffectInstance = new StatusEffectInstance(StatusEffects.REGENERATION, 20, 1);
-            target.addStatusEffect(statusEffectInstance);
+            // Only top up regeneration once it's about to run out
+            StatusEffectInstance current = this.target.getStatusEffect(StatusEffects.REGENERATION);
+            if (current == null || current.getDuration() <= REFRESH_TICKS) {
+                this.target.addStatusEffect(new StatusEffectInstance(StatusEffects.REGENERATION, REGENERATION_TICKS, 1));
+            }
         }
     }
 }
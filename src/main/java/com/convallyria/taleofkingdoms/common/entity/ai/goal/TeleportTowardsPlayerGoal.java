@@ -44,13 +44,9 @@ public class TeleportTowardsPlayerGoal extends ActiveTargetGoal<PlayerEntity> {
                 if (teleportAbility.spreadFire()) {
                     int spawnFire = this.mob.getRandom().nextInt(6);
                     if (spawnFire == 1) {
-                        for (BlockPos blockPos : BlockUtils.getNearbyBlocksUnder(this.mob.getBlockPos(), 1)) {
-                            BlockPos up = blockPos.add(0, 1, 0);
-                            if (!this.mob.world.getBlockState(up).isAir()) {
-                                continue;
-                            }
-                            this.mob.world.setBlockState(up, Blocks.FIRE.getDefaultState());
-                        }
+                        // The layer the mob is standing in
+                        Iterable<BlockPos> area = BlockUtils.iterateNearbyBlocksUnder(this.mob.getBlockPos().up(), 1);
+                        BlockUtils.fillArea(this.mob.world, area, Blocks.FIRE.getDefaultState(), (world, pos) -> world.getBlockState(pos).isAir());
                     }
                 }
             }
@@ -2,7 +2,9 @@ package com.convallyria.taleofkingdoms.common.entity.ai.goal;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
+import com.convallyria.taleofkingdoms.common.entity.ai.pathing.GuildPathCache;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import com.convallyria.taleofkingdoms.common.world.GuildWaypoints;
 import net.minecraft.entity.ai.NoPenaltyTargeting;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.PathAwareEntity;
@@ -11,6 +13,7 @@ import net.minecraft.util.math.Vec3d;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.EnumSet;
+import java.util.Optional;
 
 public class WanderAroundGuildGoal extends Goal {
 
@@ -73,6 +76,18 @@ public class WanderAroundGuildGoal extends Goal {
 
     @Nullable
     protected Vec3d getWanderTarget() {
+        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+        if (api != null) {
+            Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
+            if (instance.isPresent()) {
+                // Sample directly from the guild rather than probing random positions that might be outside it
+                GuildWaypoints waypoints = instance.get().getWaypoints(this.mob.world);
+                if (waypoints != null) {
+                    BlockPos waypoint = waypoints.sample(this.mob.getRandom(), this.mob.getBlockPos(), horizontalRange, verticalRange);
+                    return waypoint == null ? null : Vec3d.ofBottomCenter(waypoint);
+                }
+            }
+        }
         return NoPenaltyTargeting.find(this.mob, horizontalRange, verticalRange);
     }
 
@@ -83,7 +98,7 @@ public class WanderAroundGuildGoal extends Goal {
 
     @Override
     public void start() {
-        this.mob.getNavigation().startMovingTo(this.targetX, this.targetY, this.targetZ, this.speed);
+        GuildPathCache.startMovingTo(this.mob, this.targetX, this.targetY, this.targetZ, this.speed);
     }
 
     @Override
@@ -9,7 +9,6 @@ import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.Hand;
-import net.minecraft.util.math.BlockPos;
 
 public class EncaseFireSpellGoal extends CastSpellGoal {
 
@@ -50,9 +49,7 @@ public class EncaseFireSpellGoal extends CastSpellGoal {
     protected void castSpell() {
         spellCaster.swingHand(Hand.OFF_HAND);
         LivingEntity target = spellCaster.getTarget();
-        for (BlockPos blockPos : BlockUtils.getNearbyBlocks(target.getBlockPos(), 1)) {
-            target.world.setBlockState(blockPos, Blocks.NETHERRACK.getDefaultState());
-        }
+        BlockUtils.fillArea(target.world, BlockUtils.iterateNearbyBlocks(target.getBlockPos(), 1), Blocks.NETHERRACK.getDefaultState(), null);
         target.world.setBlockState(target.getBlockPos(), Blocks.FIRE.getDefaultState());
         spellCaster.getTarget().addStatusEffect(new StatusEffectInstance(StatusEffects.NAUSEA, 200));
     }
@@ -0,0 +1,171 @@
+package com.convallyria.taleofkingdoms.common.entity.ai.pathing;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
+import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.ai.pathing.EntityNavigation;
+import net.minecraft.entity.ai.pathing.NavigationType;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.ai.pathing.PathNode;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caches paths found inside a guild so that guild NPCs of the same type don't keep re-running A*
+ * between the same few points.
+ * <p>
+ * Paths are keyed by the coarse cell the mob starts in, the coarse cell of its goal and its entity type,
+ * as mobs of the same type share the same navigation. When a block inside the guild changes in a way that could affect
+ * where mobs can walk, only the paths that pass near it are dropped.
+ */
+public class GuildPathCache {
+
+    private static final int CELL_SHIFT = 2; // 4x4x4 cells
+    private static final int MAX_PATHS = 512;
+    private static final long EXPIRY_TICKS = 1200;
+    private static final int INVALIDATE_RADIUS = 2;
+
+    private final Map<Key, CachedPath> paths = new LinkedHashMap<>(64, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CachedPath> eldest) {
+            return size() > MAX_PATHS;
+        }
+    };
+
+    /**
+     * Starts moving the mob towards an entity, using the guild path cache if the mob is in a guild.
+     * @param mob the mob to move
+     * @param target the entity to move to
+     * @param speed the speed to move at
+     * @return true if the mob is now following a path
+     */
+    public static boolean startMovingTo(MobEntity mob, Entity target, double speed) {
+        GuildPathCache cache = get(mob, target.getBlockPos());
+        if (cache == null) return mob.getNavigation().startMovingTo(target, speed);
+        return cache.startMovingTo(mob, target.getBlockPos(), () -> mob.getNavigation().findPathTo(target, 0), speed);
+    }
+
+    /**
+     * Starts moving the mob towards a position, using the guild path cache if the mob is in a guild.
+     * @param mob the mob to move
+     * @param x target x
+     * @param y target y
+     * @param z target z
+     * @param speed the speed to move at
+     * @return true if the mob is now following a path
+     */
+    public static boolean startMovingTo(MobEntity mob, double x, double y, double z, double speed) {
+        BlockPos goal = new BlockPos(x, y, z);
+        GuildPathCache cache = get(mob, goal);
+        if (cache == null) return mob.getNavigation().startMovingTo(x, y, z, speed);
+        return cache.startMovingTo(mob, goal, () -> mob.getNavigation().findPathTo(x, y, z, 0), speed);
+    }
+
+    @Nullable
+    private static GuildPathCache get(MobEntity mob, BlockPos goal) {
+        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+        if (api == null || mob.world.isClient()) return null;
+        Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
+        if (instance.isEmpty() || !instance.get().isInGuild(mob) || !instance.get().isInGuild(goal)) return null;
+        return instance.get().getPathCache();
+    }
+
+    private boolean startMovingTo(MobEntity mob, BlockPos goal, Supplier<Path> finder, double speed) {
+        final EntityNavigation navigation = mob.getNavigation();
+        final long goalCell = toCell(goal);
+
+        // Already following a path into the same cell, don't restart it
+        Path current = navigation.getCurrentPath();
+        if (current != null && !current.isFinished() && toCell(current.getTarget()) == goalCell) return true;
+
+        final Key key = new Key(mob.getType(), toCell(mob.getBlockPos()), goalCell);
+        final long now = mob.world.getTime();
+        CachedPath cached = paths.get(key);
+        if (cached != null && now - cached.createdAt() <= EXPIRY_TICKS) {
+            Path path = copy(cached.path());
+            path.setCurrentNodeIndex(getClosestNodeIndex(path, mob.getBlockPos()));
+            return navigation.startMovingAlong(path, speed);
+        }
+
+        Path path = finder.get();
+        if (path == null) return false;
+        // Only share paths that actually get there - partial paths are usually caused by something temporary
+        if (path.reachesTarget()) paths.put(key, new CachedPath(copy(path), now));
+        return navigation.startMovingAlong(path, speed);
+    }
+
+    /**
+     * Drops the cached paths that pass within a couple of blocks of a changed block.
+     * Changes that leave the block just as walkable, such as crops growing or a torch being placed, keep every path.
+     * @param world the world the block changed in
+     * @param pos the position of the block
+     * @param oldState the state before the change
+     * @param newState the state after the change
+     */
+    public void invalidate(BlockView world, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (paths.isEmpty() || !affectsPaths(world, pos, oldState, newState)) return;
+        paths.values().removeIf(cached -> passesNear(cached.path(), pos));
+    }
+
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    private static boolean affectsPaths(BlockView world, BlockPos pos, BlockState oldState, BlockState newState) {
+        if (oldState.canPathfindThrough(world, pos, NavigationType.LAND) != newState.canPathfindThrough(world, pos, NavigationType.LAND)) return true;
+        // Most blocks share their shape instances, so a different instance is treated as a different shape
+        return oldState.getCollisionShape(world, pos) != newState.getCollisionShape(world, pos);
+    }
+
+    private static boolean passesNear(Path path, BlockPos pos) {
+        for (int i = 0; i < path.getLength(); i++) {
+            PathNode node = path.getNode(i);
+            if (Math.abs(node.x - pos.getX()) <= INVALIDATE_RADIUS
+                    && Math.abs(node.y - pos.getY()) <= INVALIDATE_RADIUS
+                    && Math.abs(node.z - pos.getZ()) <= INVALIDATE_RADIUS) return true;
+        }
+        return false;
+    }
+
+    private static long toCell(BlockPos pos) {
+        return BlockPos.asLong(pos.getX() >> CELL_SHIFT, pos.getY() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT);
+    }
+
+    private static int getClosestNodeIndex(Path path, BlockPos pos) {
+        int closest = 0;
+        int closestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < path.getLength(); i++) {
+            int distance = path.getNodePos(i).getManhattanDistance(pos);
+            if (distance < closestDistance) {
+                closest = i;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    private static Path copy(Path path) {
+        // Path tracks the current node index, so every mob needs its own copy. The nodes themselves are not modified.
+        List<PathNode> nodes = new ArrayList<>(path.getLength());
+        for (int i = 0; i < path.getLength(); i++) {
+            nodes.add(path.getNode(i));
+        }
+        return new Path(nodes, path.getTarget(), path.reachesTarget());
+    }
+
+    private record Key(EntityType<?> type, long start, long goal) {}
+
+    private record CachedPath(Path path, long createdAt) {}
+}
@@ -2,6 +2,7 @@ package com.convallyria.taleofkingdoms.common.entity.generic;
 
 import com.convallyria.taleofkingdoms.client.translation.Translations;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.BowAttackGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.FollowPlayerGoal;
@@ -15,7 +16,6 @@ import net.minecraft.entity.ai.goal.MeleeAttackGoal;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.mob.Monster;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.PersistentProjectileEntity;
@@ -48,7 +48,7 @@ public class HunterEntity extends TOKEntity implements RangedAttackMob {
 
     public HunterEntity(@NotNull EntityType<? extends PathAwareEntity> entityType, @NotNull World world) {
         super(entityType, world);
-        this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.IRON_SWORD));
+        NpcEquipment.IRON_SWORD.equip(this, Hand.MAIN_HAND);
         this.updateAttackType();
     }
 
@@ -58,7 +58,7 @@ public class HunterEntity extends TOKEntity implements RangedAttackMob {
         this.targetSelector.add(1, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_SOLDIER, true));
         this.targetSelector.add(2, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_GUARDIAN, true));
         this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_MAGE, true));
-        this.targetSelector.add(4, new ActiveTargetGoal<>(this, MobEntity.class, 100, true, true, livingEntity -> livingEntity instanceof Monster));
+        this.targetSelector.add(4, new ActiveTargetGoal<>(this, MobEntity.class, 100, true, true, IS_MONSTER));
         this.goalSelector.add(2, new LookAtEntityGoal(this, PlayerEntity.class, 10.0F));
         this.goalSelector.add(3, new FollowPlayerGoal(this, 0.8F, 5, 30));
         applyEntityAI();
@@ -75,11 +75,11 @@ public class HunterEntity extends TOKEntity implements RangedAttackMob {
     protected ActionResult interactMob(PlayerEntity player, Hand hand) {
         if (hand == Hand.OFF_HAND) return ActionResult.FAIL;
         if (this.getStackInHand(Hand.MAIN_HAND).getItem() == Items.IRON_SWORD) {
-            this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.BOW));
+            NpcEquipment.BOW.equip(this, Hand.MAIN_HAND);
             this.updateAttackType();
             if (player.world.isClient()) Translations.HUNTER_BOW.send(player);
         } else {
-            this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.IRON_SWORD));
+            NpcEquipment.IRON_SWORD.equip(this, Hand.MAIN_HAND);
             if (player.world.isClient()) Translations.HUNTER_SWORD.send(player);
             this.updateAttackType();
         }
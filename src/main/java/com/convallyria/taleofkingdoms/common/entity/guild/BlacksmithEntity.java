@@ -56,6 +56,6 @@ public class BlacksmithEntity extends TOKEntity {
     }
 
     public static ImmutableList<ShopItem> getBlacksmithShopItems() {
-        return ImmutableList.copyOf(ShopParser.guiShopItems.get(ShopParser.GUI.BLACKSMITH));
+        return ShopParser.getCatalog().getItems(ShopParser.GUI.BLACKSMITH);
     }
 }
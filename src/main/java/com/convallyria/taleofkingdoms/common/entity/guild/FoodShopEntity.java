@@ -56,6 +56,6 @@ public class FoodShopEntity extends TOKEntity {
     }
 
     public static ImmutableList<ShopItem> getFoodShopItems() {
-        return ImmutableList.copyOf(ShopParser.guiShopItems.get(ShopParser.GUI.FOOD));
+        return ShopParser.getCatalog().getItems(ShopParser.GUI.FOOD);
     }
 }
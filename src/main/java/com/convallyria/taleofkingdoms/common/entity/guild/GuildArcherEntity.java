@@ -2,6 +2,7 @@ package com.convallyria.taleofkingdoms.common.entity.guild;
 
 import com.convallyria.taleofkingdoms.client.translation.Translations;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.BowAttackGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.CrossbowAttackGoal;
@@ -20,7 +21,6 @@ import net.minecraft.entity.ai.goal.LookAtEntityGoal;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.mob.Monster;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.PersistentProjectileEntity;
@@ -69,7 +69,7 @@ public class GuildArcherEntity extends TOKEntity implements CrossbowUser, Ranged
     public EntityData initialize(ServerWorldAccess world, LocalDifficulty difficulty, SpawnReason spawnReason, @Nullable EntityData entityData, @Nullable NbtCompound entityTag) {
         EntityData entityReturnData = super.initialize(world, difficulty, spawnReason, entityData, entityTag);
         int value = ThreadLocalRandom.current().nextInt(2);
-        this.setStackInHand(Hand.MAIN_HAND, new ItemStack(value == 1 ? Items.BOW : Items.CROSSBOW));
+        (value == 1 ? NpcEquipment.BOW : NpcEquipment.CROSSBOW).equip(this, Hand.MAIN_HAND);
         if (this.getStackInHand(Hand.MAIN_HAND).getItem() == Items.BOW) {
             this.goalSelector.add(1, new BowAttackGoal<>(this, 0.6D, 15, 8.0F));
         } else {
@@ -87,7 +87,7 @@ public class GuildArcherEntity extends TOKEntity implements CrossbowUser, Ranged
         this.targetSelector.add(2, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_GUARDIAN, false));
         this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_MAGE, false));
         this.targetSelector.add(4, new ActiveTargetGoal<>(this, MobEntity.class, 100,
-                true, true, livingEntity -> livingEntity instanceof Monster));
+                true, true, IS_MONSTER));
     }
 
     @Override
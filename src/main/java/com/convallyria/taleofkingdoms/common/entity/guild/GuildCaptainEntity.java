@@ -1,5 +1,6 @@
 package com.convallyria.taleofkingdoms.common.entity.guild;
 
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.ai.goal.LookAtEntityGoal;
@@ -7,8 +8,6 @@ import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
 import net.minecraft.world.World;
@@ -17,7 +16,7 @@ public class GuildCaptainEntity extends TOKEntity {
 
     public GuildCaptainEntity(EntityType<? extends PathAwareEntity> entityType, World world) {
         super(entityType, world);
-        this.setStackInHand(Hand.OFF_HAND, new ItemStack(Items.IRON_SWORD));
+        NpcEquipment.IRON_SWORD.equip(this, Hand.OFF_HAND);
     }
 
     @Override
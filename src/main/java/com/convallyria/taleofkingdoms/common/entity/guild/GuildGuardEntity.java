@@ -4,6 +4,7 @@ import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.client.translation.Translations;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.ImprovedFollowTargetGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.WanderAroundGuildGoal;
@@ -16,10 +17,8 @@ import net.minecraft.entity.ai.goal.MeleeAttackGoal;
 import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.mob.Monster;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
@@ -30,7 +29,7 @@ public class GuildGuardEntity extends TOKEntity {
 
     public GuildGuardEntity(EntityType<? extends PathAwareEntity> entityType, World world) {
         super(entityType, world);
-        this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.IRON_SWORD));
+        NpcEquipment.IRON_SWORD.equip(this, Hand.MAIN_HAND);
     }
 
     @Override
@@ -43,8 +42,7 @@ public class GuildGuardEntity extends TOKEntity {
         this.targetSelector.add(2, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_GUARDIAN, false));
         this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_MAGE, false));
         this.targetSelector.add(4, new ActiveTargetGoal<>(this, MobEntity.class, 100,
-                true, true, livingEntity -> livingEntity instanceof Monster));
-        this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.IRON_SWORD));
+                true, true, IS_MONSTER));
     }
 
     public static DefaultAttributeContainer.Builder createMobAttributes() {
@@ -78,7 +76,7 @@ public class GuildGuardEntity extends TOKEntity {
                             this.targetSelector.remove(goal);
                             if (player.world.isClient()) Translations.GUILDMEMBER_GOOD_FIGHTER.send(player);
                             instance.addWorthiness(player.getUuid(), 2);
-                            this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.IRON_SWORD));
+                            NpcEquipment.IRON_SWORD.equip(this, Hand.MAIN_HAND);
                         }, 160);
                     }, 80);
                     player.getInventory().removeOne(player.getMainHandStack());
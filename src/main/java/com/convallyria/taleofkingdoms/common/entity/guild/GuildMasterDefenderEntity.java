@@ -4,9 +4,12 @@ import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.client.translation.Translations;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
+import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.FollowPlayerGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.HealPlayerGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.ImprovedFollowTargetGoal;
+import com.convallyria.taleofkingdoms.common.schematic.SchematicOptions;
 import com.convallyria.taleofkingdoms.common.utils.InventoryUtils;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
 import net.fabricmc.api.EnvType;
@@ -16,7 +19,6 @@ import net.minecraft.entity.ai.goal.MeleeAttackGoal;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.mob.MobEntity;
-import net.minecraft.entity.mob.Monster;
 import net.minecraft.entity.mob.PathAwareEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
@@ -39,6 +41,7 @@ public class GuildMasterDefenderEntity extends GuildMasterEntity {
 
     public GuildMasterDefenderEntity(EntityType<? extends PathAwareEntity> entityType, World world) {
         super(entityType, world);
+        NpcEquipment.IRON_SWORD.equip(this, Hand.MAIN_HAND);
     }
 
     @Override
@@ -52,8 +55,7 @@ public class GuildMasterDefenderEntity extends GuildMasterEntity {
         this.targetSelector.add(2, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_GUARDIAN, false));
         this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.REFICULE_MAGE, false));
         this.targetSelector.add(4, new ActiveTargetGoal<>(this, MobEntity.class, 100,
-                true, true, livingEntity -> livingEntity instanceof Monster));
-        this.setStackInHand(Hand.MAIN_HAND, new ItemStack(Items.IRON_SWORD));
+                true, true, TOKEntity.IS_MONSTER));
     }
 
     @Override
@@ -118,7 +120,7 @@ public class GuildMasterDefenderEntity extends GuildMasterEntity {
 
                         if (stack != null) {
                             playerInventory.setStack(InventoryUtils.getSlotWithStack(playerInventory, stack), new ItemStack(Items.AIR));
-                            instance.rebuild(serverPlayerEntity, api);
+                            instance.rebuild(serverPlayerEntity, api, SchematicOptions.ONLY_CHANGED);
                             instance.setRebuilt(true);
                             instance.setUnderAttack(false);
                             serverPlayerEntity.getWorld().getEntityById(this.getId()).kill();
@@ -1,11 +1,14 @@
 package com.convallyria.taleofkingdoms.common.entity.reficule;
 
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.BowAttackGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.ImprovedFollowTargetGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.TeleportTowardsPlayerGoal;
-import net.minecraft.enchantment.Enchantments;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadFormationGoal;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadTargetGoal;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadlessGoal;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
@@ -30,23 +33,23 @@ public class ReficuleGuardianEntity extends TOKEntity implements Monster, Telepo
 
     public ReficuleGuardianEntity(@NotNull EntityType<? extends PathAwareEntity> entityType, @NotNull World world) {
         super(entityType, world);
-        ItemStack bow = new ItemStack(Items.BOW);
-        bow.addEnchantment(Enchantments.POWER, 1); // Want them to look fancy :)
-        this.setStackInHand(Hand.MAIN_HAND, bow);
+        NpcEquipment.REFICULE_BOW.equip(this, Hand.MAIN_HAND);
     }
 
     @Override
     protected void initGoals() {
         super.initGoals();
-        this.targetSelector.add(1, new TeleportTowardsPlayerGoal(this, entity -> {
+        this.targetSelector.add(0, new SquadTargetGoal(this));
+        this.targetSelector.add(1, new SquadlessGoal(this, new TeleportTowardsPlayerGoal(this, entity -> {
             return entity.squaredDistanceTo(this) < this.getAttributeValue(EntityAttributes.GENERIC_FOLLOW_RANGE);
-        }));
-        this.targetSelector.add(2, new ImprovedFollowTargetGoal<>(this, EntityType.PLAYER, true));
-        this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDGUARD, true));
-        this.targetSelector.add(4, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDARCHER, true));
-        this.targetSelector.add(5, new ImprovedFollowTargetGoal<>(this, EntityTypes.HUNTER, true));
+        })));
+        this.targetSelector.add(2, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityType.PLAYER, true)));
+        this.targetSelector.add(3, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDGUARD, true)));
+        this.targetSelector.add(4, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDARCHER, true)));
+        this.targetSelector.add(5, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.HUNTER, true)));
         this.goalSelector.add(1, new BowAttackGoal<>(this, 0.6D, 20, 16.0F));
-        this.goalSelector.add(2, new WanderAroundGoal(this, 0.6D));
+        this.goalSelector.add(2, new SquadFormationGoal(this, 0.6D));
+        this.goalSelector.add(3, new WanderAroundGoal(this, 0.6D));
     }
 
     public static DefaultAttributeContainer.Builder createMobAttributes() {
@@ -1,6 +1,7 @@
 package com.convallyria.taleofkingdoms.common.entity.reficule;
 
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.ImprovedFollowTargetGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.TeleportTowardsPlayerGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.spell.BlindTargetGoal;
@@ -8,13 +9,14 @@ import com.convallyria.taleofkingdoms.common.entity.ai.goal.spell.EncaseFireSpel
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.spell.FireballSpellGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.spell.GiveInvisibilityGoal;
 import com.convallyria.taleofkingdoms.common.entity.generic.SpellcastingEntity;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadFormationGoal;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadTargetGoal;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadlessGoal;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.minecraft.enchantment.Enchantments;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityData;
 import net.minecraft.entity.EntityType;
-import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.ai.RangedAttackMob;
@@ -36,6 +38,7 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.sound.SoundEvent;
 import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.Hand;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.LocalDifficulty;
@@ -96,16 +99,18 @@ public class ReficuleMageEntity extends SpellcastingEntity implements Monster, T
         this.goalSelector.add(3, new EncaseFireSpellGoal(this));
         this.goalSelector.add(4, new FireballSpellGoal(this));
         this.goalSelector.add(5, new BlindTargetGoal(this));
-        this.goalSelector.add(6, new WanderAroundGoal(this, 0.6D));
-        this.goalSelector.add(7, new LookAtEntityGoal(this, PlayerEntity.class, 3.0F, 1.0F));
-        this.goalSelector.add(8, new LookAtEntityGoal(this, MobEntity.class, 8.0F));
-        this.targetSelector.add(1, new TeleportTowardsPlayerGoal(this, entity -> {
+        this.goalSelector.add(6, new SquadFormationGoal(this, 0.6D));
+        this.goalSelector.add(7, new WanderAroundGoal(this, 0.6D));
+        this.goalSelector.add(8, new LookAtEntityGoal(this, PlayerEntity.class, 3.0F, 1.0F));
+        this.goalSelector.add(9, new LookAtEntityGoal(this, MobEntity.class, 8.0F));
+        this.targetSelector.add(0, new SquadTargetGoal(this));
+        this.targetSelector.add(1, new SquadlessGoal(this, new TeleportTowardsPlayerGoal(this, entity -> {
             return entity.squaredDistanceTo(this) < this.getAttributeValue(EntityAttributes.GENERIC_FOLLOW_RANGE);
-        }));
-        this.targetSelector.add(2, (new ActiveTargetGoal<>(this, PlayerEntity.class, true)).setMaxTimeWithoutVisibility(300));
-        this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDGUARD, false));
-        this.targetSelector.add(4, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDARCHER, false));
-        this.targetSelector.add(5, new ImprovedFollowTargetGoal<>(this, EntityTypes.HUNTER, false));
+        })));
+        this.targetSelector.add(2, new SquadlessGoal(this, (new ActiveTargetGoal<>(this, PlayerEntity.class, true)).setMaxTimeWithoutVisibility(300)));
+        this.targetSelector.add(3, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDGUARD, false)));
+        this.targetSelector.add(4, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDARCHER, false)));
+        this.targetSelector.add(5, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.HUNTER, false)));
     }
 
     public static DefaultAttributeContainer.Builder createMobAttributes() {
@@ -119,9 +124,7 @@ public class ReficuleMageEntity extends SpellcastingEntity implements Monster, T
 
     @Override
     public EntityData initialize(ServerWorldAccess world, LocalDifficulty difficulty, SpawnReason spawnReason, @Nullable EntityData entityData, @Nullable NbtCompound entityTag) {
-        ItemStack wand = new ItemStack(Items.STICK);
-        wand.addEnchantment(Enchantments.MENDING, 1); // Want them to look fancy :)
-        this.equipStack(EquipmentSlot.OFFHAND, wand);
+        NpcEquipment.REFICULE_WAND.equip(this, Hand.OFF_HAND);
         return super.initialize(world, difficulty, spawnReason, entityData, entityTag);
     }
 
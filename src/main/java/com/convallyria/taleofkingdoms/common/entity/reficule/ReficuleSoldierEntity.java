@@ -1,10 +1,13 @@
 package com.convallyria.taleofkingdoms.common.entity.reficule;
 
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.NpcEquipment;
 import com.convallyria.taleofkingdoms.common.entity.TOKEntity;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.ImprovedFollowTargetGoal;
 import com.convallyria.taleofkingdoms.common.entity.ai.goal.TeleportTowardsPlayerGoal;
-import net.minecraft.enchantment.Enchantments;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadFormationGoal;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadTargetGoal;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.SquadlessGoal;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.ai.goal.MeleeAttackGoal;
@@ -13,8 +16,6 @@ import net.minecraft.entity.attribute.DefaultAttributeContainer;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.mob.Monster;
 import net.minecraft.entity.mob.PathAwareEntity;
-import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
 import net.minecraft.util.Hand;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
@@ -23,22 +24,22 @@ public class ReficuleSoldierEntity extends TOKEntity implements Monster, Telepor
 
     public ReficuleSoldierEntity(@NotNull EntityType<? extends PathAwareEntity> entityType, @NotNull World world) {
         super(entityType, world);
-        ItemStack ironSword = new ItemStack(Items.IRON_SWORD);
-        ironSword.addEnchantment(Enchantments.MENDING, 1); // Want them to look fancy :)
-        this.setStackInHand(Hand.MAIN_HAND, ironSword);
+        NpcEquipment.REFICULE_SWORD.equip(this, Hand.MAIN_HAND);
     }
 
     @Override
     protected void initGoals() {
         super.initGoals();
-        this.targetSelector.add(1, new TeleportTowardsPlayerGoal(this, entity -> {
+        this.targetSelector.add(0, new SquadTargetGoal(this));
+        this.targetSelector.add(1, new SquadlessGoal(this, new TeleportTowardsPlayerGoal(this, entity -> {
             return entity.squaredDistanceTo(this) < this.getAttributeValue(EntityAttributes.GENERIC_FOLLOW_RANGE);
-        }));
-        this.targetSelector.add(2, new ImprovedFollowTargetGoal<>(this, EntityType.PLAYER, true));
-        this.targetSelector.add(3, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDGUARD, true));
-        this.targetSelector.add(4, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDARCHER, true));
-        this.targetSelector.add(5, new ImprovedFollowTargetGoal<>(this, EntityTypes.HUNTER, true));
-        this.goalSelector.add(2, new WanderAroundGoal(this, 0.6D));
+        })));
+        this.targetSelector.add(2, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityType.PLAYER, true)));
+        this.targetSelector.add(3, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDGUARD, true)));
+        this.targetSelector.add(4, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.GUILDARCHER, true)));
+        this.targetSelector.add(5, new SquadlessGoal(this, new ImprovedFollowTargetGoal<>(this, EntityTypes.HUNTER, true)));
+        this.goalSelector.add(2, new SquadFormationGoal(this, 0.7D));
+        this.goalSelector.add(3, new WanderAroundGoal(this, 0.6D));
         this.goalSelector.add(1, new MeleeAttackGoal(this, 0.8D, false));
     }
 
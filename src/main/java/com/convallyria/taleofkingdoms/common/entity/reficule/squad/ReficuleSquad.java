@@ -0,0 +1,163 @@
+package com.convallyria.taleofkingdoms.common.entity.reficule.squad;
+
+import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A group of reficules that came through the same gateway during a guild attack.
+ * <p>
+ * The squad picks one target for all of its members and only the leader paths towards it.
+ * The other members steer along the leader's path in a formation around it, and only take on the target themselves once it is close.
+ */
+public class ReficuleSquad {
+
+    public static final int TICK_INTERVAL = 20;
+    private static final double SEARCH_RANGE = 40.0D;
+    private static final double ENGAGE_DISTANCE = 12.0D;
+    private static final double FORMATION_RADIUS = 3.0D;
+
+    private final ServerWorld world;
+    private final BlockPos gateway;
+    private final Vec3d objective;
+    private final List<MobEntity> members = new ArrayList<>();
+    private LivingEntity target;
+
+    /**
+     * @param world the world the attack is happening in
+     * @param gateway the gateway this squad came through
+     * @param objective where the squad heads when it has no target, usually the guild centre
+     */
+    public ReficuleSquad(ServerWorld world, BlockPos gateway, Vec3d objective) {
+        this.world = world;
+        this.gateway = gateway;
+        this.objective = objective;
+    }
+
+    public BlockPos getGateway() {
+        return gateway;
+    }
+
+    public Vec3d getObjective() {
+        return objective;
+    }
+
+    public void add(MobEntity member) {
+        members.add(member);
+    }
+
+    @NotNull
+    public List<MobEntity> getMembers() {
+        return members;
+    }
+
+    @Nullable
+    public MobEntity getLeader() {
+        return members.isEmpty() ? null : members.get(0);
+    }
+
+    public boolean isLeader(MobEntity member) {
+        return getLeader() == member;
+    }
+
+    public boolean isActive() {
+        return !members.isEmpty();
+    }
+
+    @Nullable
+    public LivingEntity getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets the squad target if it is close enough for this member to engage.
+     * @param member the squad member
+     * @return the target, or null if the member should keep formation
+     */
+    @Nullable
+    public LivingEntity getTargetFor(MobEntity member) {
+        if (target == null || !target.isAlive()) return null;
+        if (member.squaredDistanceTo(target) <= ENGAGE_DISTANCE * ENGAGE_DISTANCE) return target;
+        return null;
+    }
+
+    /**
+     * Gets the position in the formation for a member, which is a ring around the leader.
+     * @param member the squad member
+     * @return the formation position, or null if there is no leader
+     */
+    @Nullable
+    public Vec3d getFormationPosition(MobEntity member) {
+        MobEntity leader = getLeader();
+        if (leader == null) return null;
+        return leader.getPos().add(getFormationOffset(member));
+    }
+
+    /**
+     * Gets where a member sits in the formation, relative to the leader.
+     * @param member the squad member
+     * @return the offset from the leader, which is zero for the leader itself or a non-member
+     */
+    @NotNull
+    public Vec3d getFormationOffset(MobEntity member) {
+        int index = members.indexOf(member);
+        if (index <= 0) return Vec3d.ZERO;
+        float angle = (float) (index - 1) / (members.size() - 1) * (float) (Math.PI * 2);
+        return new Vec3d(MathHelper.cos(angle) * FORMATION_RADIUS, 0, MathHelper.sin(angle) * FORMATION_RADIUS);
+    }
+
+    /**
+     * Removes dead members and picks a new target for the squad.
+     * @return true if the squad still has members
+     */
+    public boolean tick() {
+        members.removeIf(member -> !member.isAlive() || member.isRemoved());
+        MobEntity leader = getLeader();
+        if (leader == null) {
+            this.target = null;
+            return false;
+        }
+
+        if (target == null || !target.isAlive() || target.isRemoved() || leader.squaredDistanceTo(target) > SEARCH_RANGE * SEARCH_RANGE) {
+            this.target = findTarget(leader);
+        }
+        return true;
+    }
+
+    /**
+     * One search for the whole squad, rather than every member scanning for every target type.
+     */
+    @Nullable
+    private LivingEntity findTarget(MobEntity leader) {
+        LivingEntity closest = world.getClosestPlayer(leader.getX(), leader.getY(), leader.getZ(), SEARCH_RANGE,
+                entity -> entity instanceof PlayerEntity player && !player.isCreative() && !player.isSpectator());
+        double closestDistance = closest == null ? Double.MAX_VALUE : leader.squaredDistanceTo(closest);
+
+        Box box = leader.getBoundingBox().expand(SEARCH_RANGE, 8.0D, SEARCH_RANGE);
+        for (LivingEntity defender : world.getEntitiesByClass(LivingEntity.class, box, ReficuleSquad::isDefender)) {
+            double distance = leader.squaredDistanceTo(defender);
+            if (distance < closestDistance) {
+                closest = defender;
+                closestDistance = distance;
+            }
+        }
+        return closest;
+    }
+
+    private static boolean isDefender(LivingEntity entity) {
+        EntityType<?> type = entity.getType();
+        return entity.isAlive() && (type == EntityTypes.GUILDGUARD || type == EntityTypes.GUILDARCHER || type == EntityTypes.HUNTER);
+    }
+}
@@ -0,0 +1,95 @@
+package com.convallyria.taleofkingdoms.common.entity.reficule.squad;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.ai.pathing.Path;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.entity.mob.PathAwareEntity;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.EnumSet;
+
+/**
+ * Moves a reficule with its squad while it has nothing close enough to fight.
+ * The leader paths to the squad target or objective. Everyone else steers along the leader's path,
+ * offset to their place in the formation, so only the leader ever searches for a path.
+ */
+public class SquadFormationGoal extends Goal {
+
+    private static final double SLOT_TOLERANCE = 2.0D;
+
+    private final PathAwareEntity mob;
+    private final double speed;
+    private ReficuleSquad squad;
+    private int updateCountdownTicks;
+
+    public SquadFormationGoal(PathAwareEntity mob, double speed) {
+        this.mob = mob;
+        this.speed = speed;
+        this.setControls(EnumSet.of(Control.MOVE));
+    }
+
+    @Override
+    public boolean canStart() {
+        if (mob.getTarget() != null) return false;
+        this.squad = SquadTargetGoal.getSquad(mob);
+        return squad != null && squad.getLeader() != null;
+    }
+
+    @Override
+    public boolean shouldContinue() {
+        return mob.getTarget() == null && squad.isActive() && squad.getMembers().contains(mob);
+    }
+
+    @Override
+    public boolean shouldRunEveryTick() {
+        // Followers steer with the move control, which has to be told where to go every tick
+        return true;
+    }
+
+    @Override
+    public void start() {
+        this.updateCountdownTicks = 0;
+    }
+
+    @Override
+    public void stop() {
+        this.squad = null;
+        this.mob.getNavigation().stop();
+    }
+
+    @Override
+    public void tick() {
+        MobEntity leader = squad.getLeader();
+        if (leader == null) return;
+        if (leader != mob) {
+            follow(leader);
+            return;
+        }
+
+        if (--this.updateCountdownTicks > 0) return;
+
+        // The leader is the only member that searches for a path
+        this.updateCountdownTicks = this.getTickCount(ReficuleSquad.TICK_INTERVAL);
+        LivingEntity target = squad.getTarget();
+        if (target != null) {
+            mob.getNavigation().startMovingTo(target, speed);
+        } else {
+            Vec3d objective = squad.getObjective();
+            mob.getNavigation().startMovingTo(objective.x, objective.y, objective.z, speed);
+        }
+    }
+
+    private void follow(MobEntity leader) {
+        // A path left over from leading would take the move control back every tick
+        if (!mob.getNavigation().isIdle()) mob.getNavigation().stop();
+
+        // Head for the node the leader is walking to, or the leader itself once it has stopped
+        Path path = leader.getNavigation().getCurrentPath();
+        Vec3d towards = path == null || path.isFinished() ? leader.getPos() : path.getNodePosition(leader);
+        Vec3d slot = towards.add(squad.getFormationOffset(mob));
+        if (mob.squaredDistanceTo(slot) > SLOT_TOLERANCE * SLOT_TOLERANCE) {
+            mob.getMoveControl().moveTo(slot.x, slot.y, slot.z, speed);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.convallyria.taleofkingdoms.common.entity.reficule.squad;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.mob.MobEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+
+/**
+ * Takes the target of a reficule from its squad, while the squad's target is close enough to fight.
+ * The reficule's own target goals are wrapped in a {@link SquadlessGoal}, so they only run once it has no squad.
+ */
+public class SquadTargetGoal extends Goal {
+
+    private final MobEntity mob;
+    private ReficuleSquad squad;
+    private LivingEntity target;
+
+    public SquadTargetGoal(MobEntity mob) {
+        this.mob = mob;
+        this.setControls(EnumSet.of(Control.TARGET));
+    }
+
+    @Override
+    public boolean canStart() {
+        ReficuleSquad squad = getSquad(mob);
+        if (squad == null || squad.getTargetFor(mob) == null) return false;
+        this.squad = squad;
+        return true;
+    }
+
+    @Override
+    public boolean shouldContinue() {
+        return squad.isActive() && squad.getMembers().contains(mob) && squad.getTargetFor(mob) != null;
+    }
+
+    @Override
+    public void stop() {
+        // Only forget the target the squad gave, not one that was set some other way
+        if (mob.getTarget() == target) mob.setTarget(null);
+        this.squad = null;
+        this.target = null;
+    }
+
+    @Override
+    public void tick() {
+        LivingEntity target = squad.getTargetFor(mob);
+        if (target == null || target == mob.getTarget()) return;
+        this.target = target;
+        mob.setTarget(target);
+    }
+
+    @Nullable
+    static ReficuleSquad getSquad(MobEntity mob) {
+        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+        if (api == null || mob.world.isClient()) return null;
+        return api.getConquestInstanceStorage().mostRecentInstance()
+                .map(instance -> instance.getReficuleSquad(mob.getUuid()))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.convallyria.taleofkingdoms.common.entity.reficule.squad;
+
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.mob.MobEntity;
+
+/**
+ * Runs a reficule's own goal only while it is not in a squad.
+ * Squad members get their target from {@link SquadTargetGoal}, so their own target searches would only repeat the squad's.
+ */
+public class SquadlessGoal extends Goal {
+
+    private final MobEntity mob;
+    private final Goal goal;
+
+    public SquadlessGoal(MobEntity mob, Goal goal) {
+        this.mob = mob;
+        this.goal = goal;
+        this.setControls(goal.getControls());
+    }
+
+    @Override
+    public boolean canStart() {
+        return SquadTargetGoal.getSquad(mob) == null && goal.canStart();
+    }
+
+    @Override
+    public boolean shouldContinue() {
+        return SquadTargetGoal.getSquad(mob) == null && goal.shouldContinue();
+    }
+
+    @Override
+    public boolean canStop() {
+        return goal.canStop();
+    }
+
+    @Override
+    public void start() {
+        goal.start();
+    }
+
+    @Override
+    public void stop() {
+        goal.stop();
+    }
+
+    @Override
+    public boolean shouldRunEveryTick() {
+        return goal.shouldRunEveryTick();
+    }
+
+    @Override
+    public void tick() {
+        goal.tick();
+    }
+}
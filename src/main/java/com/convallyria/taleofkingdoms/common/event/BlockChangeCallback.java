@@ -0,0 +1,19 @@
+package com.convallyria.taleofkingdoms.common.event;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+public interface BlockChangeCallback {
+
+    Event<BlockChangeCallback> EVENT = EventFactory.createArrayBacked(BlockChangeCallback.class,
+            (listeners) -> (world, pos, oldState, newState) -> {
+                for (BlockChangeCallback listener : listeners) {
+                    listener.change(world, pos, oldState, newState);
+                }
+            });
+
+    void change(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState);
+}
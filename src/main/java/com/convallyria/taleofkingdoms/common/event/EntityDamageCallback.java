@@ -0,0 +1,24 @@
+package com.convallyria.taleofkingdoms.common.event;
+
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageSource;
+
+/**
+ * Called on the server before an entity takes damage, while guild damage is enabled in the config.
+ * Only entities of this mod's types, or entities inside the guild, are passed to listeners.
+ * Each listener receives the amount returned by the previous one.
+ */
+public interface EntityDamageCallback {
+
+    Event<EntityDamageCallback> EVENT = EventFactory.createArrayBacked(EntityDamageCallback.class,
+            (listeners) -> (entity, source, amount) -> {
+                for (EntityDamageCallback listener : listeners) {
+                    amount = listener.damage(entity, source, amount);
+                }
+                return amount;
+            });
+
+    float damage(LivingEntity entity, DamageSource source, float amount);
+}
@@ -3,17 +3,38 @@ package com.convallyria.taleofkingdoms.common.event;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.util.Identifier;
 
 public interface EntityDeathCallback {
 
-    Event<EntityDeathCallback> EVENT = EventFactory.createArrayBacked(EntityDeathCallback.class,
-            (listeners) -> (source, entity) -> {
-                for (EntityDeathCallback listener : listeners) {
-                    listener.death(source, entity);
-                }
-            });
+    EventStats STATS = EventStats.register("entity_death");
+
+    Event<EntityDeathCallback> EVENT = EventFactory.createWithPhases(EntityDeathCallback.class,
+            (listeners) -> {
+                if (listeners.length == 0) return (source, entity) -> {};
+                return (source, entity) -> {
+                    final long start = STATS.start();
+                    for (EntityDeathCallback listener : listeners) {
+                        listener.death(source, entity);
+                    }
+                    STATS.end(start);
+                };
+            }, EventPhases.ORDER);
 
     void death(DamageSource source, LivingEntity entity);
+
+    /**
+     * Listens for the deaths of one type of entity.
+     * @param phase the {@link EventPhases phase} to listen in
+     * @param type the type of entity
+     * @param listener the listener
+     */
+    static void register(Identifier phase, EntityType<?> type, EntityDeathCallback listener) {
+        EVENT.register(phase, (source, entity) -> {
+            if (entity.getType() == type) listener.death(source, entity);
+        });
+    }
 }
@@ -3,16 +3,37 @@ package com.convallyria.taleofkingdoms.common.event;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
 
 public interface EntityPickupItemCallback {
 
-    Event<EntityPickupItemCallback> EVENT = EventFactory.createArrayBacked(EntityPickupItemCallback.class,
-            (listeners) -> (entity, item) -> {
-                for (EntityPickupItemCallback listener : listeners) {
-                    listener.pickup(entity, item);
-                }
-            });
+    EventStats STATS = EventStats.register("entity_pickup_item");
+
+    Event<EntityPickupItemCallback> EVENT = EventFactory.createWithPhases(EntityPickupItemCallback.class,
+            (listeners) -> {
+                if (listeners.length == 0) return (entity, item) -> {};
+                return (entity, item) -> {
+                    final long start = STATS.start();
+                    for (EntityPickupItemCallback listener : listeners) {
+                        listener.pickup(entity, item);
+                    }
+                    STATS.end(start);
+                };
+            }, EventPhases.ORDER);
 
     void pickup(PlayerEntity player, ItemStack item);
+
+    /**
+     * Listens for one item being picked up.
+     * @param phase the {@link EventPhases phase} to listen in
+     * @param item the item
+     * @param listener the listener
+     */
+    static void register(Identifier phase, Item item, EntityPickupItemCallback listener) {
+        EVENT.register(phase, (player, stack) -> {
+            if (stack.isOf(item)) listener.pickup(player, stack);
+        });
+    }
 }
@@ -3,16 +3,42 @@ package com.convallyria.taleofkingdoms.common.event;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.Identifier;
 
 public interface EntitySpawnCallback {
 
-    Event<EntitySpawnCallback> EVENT = EventFactory.createArrayBacked(EntitySpawnCallback.class,
-            (listeners) -> entity -> {
-                for (EntitySpawnCallback listener : listeners) {
-                    return listener.spawn(entity);
-                }
-                return true;
-            });
+    EventStats STATS = EventStats.register("entity_spawn");
 
+    Event<EntitySpawnCallback> EVENT = EventFactory.createWithPhases(EntitySpawnCallback.class,
+            (listeners) -> {
+                if (listeners.length == 0) return entity -> true;
+                return entity -> {
+                    final long start = STATS.start();
+                    for (EntitySpawnCallback listener : listeners) {
+                        if (!listener.spawn(entity)) {
+                            STATS.end(start);
+                            return false;
+                        }
+                    }
+                    STATS.end(start);
+                    return true;
+                };
+            }, EventPhases.ORDER);
+
+    /**
+     * @param entity the entity being spawned
+     * @return false to stop the entity from spawning, which skips the remaining listeners
+     */
     boolean spawn(Entity entity);
+
+    /**
+     * Listens for the spawning of one type of entity. Other types are allowed to spawn.
+     * @param phase the {@link EventPhases phase} to listen in
+     * @param type the type of entity
+     * @param listener the listener
+     */
+    static void register(Identifier phase, EntityType<?> type, EntitySpawnCallback listener) {
+        EVENT.register(phase, entity -> entity.getType() != type || listener.spawn(entity));
+    }
 }
@@ -0,0 +1,23 @@
+package com.convallyria.taleofkingdoms.common.event;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import net.fabricmc.fabric.api.event.Event;
+import net.minecraft.util.Identifier;
+
+/**
+ * The priorities listeners can register at on this mod's events, using {@link Event#register(Identifier, Object)}.
+ * Listeners in an earlier phase run first, and listeners without a phase run in {@link #DEFAULT}.
+ * Events that can be cancelled stop at the first listener that cancels them, so later phases are skipped.
+ */
+public final class EventPhases {
+
+    public static final Identifier HIGHEST = new Identifier(TaleOfKingdoms.MODID, "highest");
+    public static final Identifier HIGH = new Identifier(TaleOfKingdoms.MODID, "high");
+    public static final Identifier DEFAULT = Event.DEFAULT_PHASE;
+    public static final Identifier LOW = new Identifier(TaleOfKingdoms.MODID, "low");
+    public static final Identifier LOWEST = new Identifier(TaleOfKingdoms.MODID, "lowest");
+
+    static final Identifier[] ORDER = {HIGHEST, HIGH, DEFAULT, LOW, LOWEST};
+
+    private EventPhases() {}
+}
@@ -0,0 +1,99 @@
+package com.convallyria.taleofkingdoms.common.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often an event is dispatched and, while timing is switched on, how long its listeners take.
+ * <p>
+ * An event with no listeners dispatches to an empty invoker, which is neither counted nor timed,
+ * so these show the cost of listening rather than the cost of the hooks themselves.
+ * Timing is off by default, as reading the clock twice per dispatch adds up on events like spawning.
+ */
+public final class EventStats {
+
+    private static final Map<String, EventStats> STATS = new ConcurrentSkipListMap<>();
+    private static volatile boolean timing;
+
+    private final String name;
+    private final LongAdder dispatches = new LongAdder();
+    private final LongAdder timedDispatches = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    private EventStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param name the name of the event
+     * @return the stats for the event, created if this is the first time it is registered
+     */
+    public static EventStats register(String name) {
+        return STATS.computeIfAbsent(name, EventStats::new);
+    }
+
+    /**
+     * @return the stats of every event, ordered by name
+     */
+    public static Collection<EventStats> getAll() {
+        return Collections.unmodifiableCollection(STATS.values());
+    }
+
+    public static void resetAll() {
+        STATS.values().forEach(EventStats::reset);
+    }
+
+    public static boolean isTiming() {
+        return timing;
+    }
+
+    public static void setTiming(boolean timing) {
+        EventStats.timing = timing;
+    }
+
+    /**
+     * @return the time the dispatch started, or 0 if timing is off
+     */
+    public long start() {
+        return timing ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param start what {@link #start()} returned for this dispatch
+     */
+    public void end(long start) {
+        dispatches.increment();
+        if (start == 0) return;
+        nanos.add(System.nanoTime() - start);
+        timedDispatches.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDispatches() {
+        return dispatches.sum();
+    }
+
+    public long getTotalNanos() {
+        return nanos.sum();
+    }
+
+    /**
+     * @return the average time of the dispatches that were timed
+     */
+    public long getAverageNanos() {
+        final long dispatches = timedDispatches.sum();
+        return dispatches == 0 ? 0 : getTotalNanos() / dispatches;
+    }
+
+    public void reset() {
+        dispatches.reset();
+        timedDispatches.reset();
+        nanos.reset();
+    }
+}
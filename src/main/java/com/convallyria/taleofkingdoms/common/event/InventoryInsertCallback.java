@@ -3,17 +3,45 @@ package com.convallyria.taleofkingdoms.common.event;
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
 
 public interface InventoryInsertCallback {
 
-    Event<InventoryInsertCallback> EVENT = EventFactory.createArrayBacked(InventoryInsertCallback.class,
-            (listeners) -> (player, slot, stack) -> {
-                for (InventoryInsertCallback listener : listeners) {
-                    return listener.insertStack(player, slot, stack);
-                }
-                return true;
-            });
+    EventStats STATS = EventStats.register("inventory_insert");
 
+    Event<InventoryInsertCallback> EVENT = EventFactory.createWithPhases(InventoryInsertCallback.class,
+            (listeners) -> {
+                if (listeners.length == 0) return (player, slot, stack) -> true;
+                return (player, slot, stack) -> {
+                    final long start = STATS.start();
+                    for (InventoryInsertCallback listener : listeners) {
+                        if (!listener.insertStack(player, slot, stack)) {
+                            STATS.end(start);
+                            return false;
+                        }
+                    }
+                    STATS.end(start);
+                    return true;
+                };
+            }, EventPhases.ORDER);
+
+    /**
+     * @param player the player whose inventory the stack is going into
+     * @param slot the slot, or -1 for any slot
+     * @param stack the stack being inserted
+     * @return false to stop the stack being inserted, which skips the remaining listeners
+     */
     boolean insertStack(PlayerEntity player, int slot, ItemStack stack);
+
+    /**
+     * Listens for one item being inserted. Other items are allowed.
+     * @param phase the {@link EventPhases phase} to listen in
+     * @param item the item
+     * @param listener the listener
+     */
+    static void register(Identifier phase, Item item, InventoryInsertCallback listener) {
+        EVENT.register(phase, (player, slot, stack) -> !stack.isOf(item) || listener.insertStack(player, slot, stack));
+    }
 }
@@ -2,17 +2,44 @@ package com.convallyria.taleofkingdoms.common.event;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.Identifier;
 
 public interface ItemMergeCallback {
 
-    Event<ItemMergeCallback> EVENT = EventFactory.createArrayBacked(ItemMergeCallback.class,
-            (listeners) -> (stack1, stack2) -> {
-                for (ItemMergeCallback listener : listeners) {
-                    return listener.tryMerge(stack1, stack2);
-                }
-                return true;
-            });
+    EventStats STATS = EventStats.register("item_merge");
 
+    Event<ItemMergeCallback> EVENT = EventFactory.createWithPhases(ItemMergeCallback.class,
+            (listeners) -> {
+                if (listeners.length == 0) return (stack1, stack2) -> true;
+                return (stack1, stack2) -> {
+                    final long start = STATS.start();
+                    for (ItemMergeCallback listener : listeners) {
+                        if (!listener.tryMerge(stack1, stack2)) {
+                            STATS.end(start);
+                            return false;
+                        }
+                    }
+                    STATS.end(start);
+                    return true;
+                };
+            }, EventPhases.ORDER);
+
+    /**
+     * @param stack1 the stack being merged into
+     * @param stack2 the stack being merged
+     * @return false to stop the stacks merging, which skips the remaining listeners
+     */
     boolean tryMerge(ItemStack stack1, ItemStack stack2);
+
+    /**
+     * Listens for merges where either stack is of one item. Other merges are allowed.
+     * @param phase the {@link EventPhases phase} to listen in
+     * @param item the item
+     * @param listener the listener
+     */
+    static void register(Identifier phase, Item item, ItemMergeCallback listener) {
+        EVENT.register(phase, (stack1, stack2) -> (!stack1.isOf(item) && !stack2.isOf(item)) || listener.tryMerge(stack1, stack2));
+    }
 }
@@ -4,9 +4,14 @@ import com.convallyria.taleofkingdoms.TOKStructures;
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
 import com.convallyria.taleofkingdoms.common.utils.EntityUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.PaneBlock;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.structure.SimpleStructurePiece;
 import net.minecraft.structure.StructureContext;
+import net.minecraft.structure.StructurePiece;
 import net.minecraft.structure.StructurePiecesHolder;
 import net.minecraft.structure.StructurePlacementData;
 import net.minecraft.structure.StructureTemplateManager;
@@ -16,16 +21,19 @@ import net.minecraft.util.BlockRotation;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.world.ServerWorldAccess;
-import org.checkerframework.checker.nullness.qual.Nullable;
+import net.minecraft.world.StructureWorldAccess;
+import net.minecraft.world.gen.StructureAccessor;
+import net.minecraft.world.gen.chunk.ChunkGenerator;
 
 public class GatewayGenerator {
 
-    private static final Identifier GATEWAY = new Identifier(TaleOfKingdoms.MODID, "gateway/gateway");
-    private static final Identifier BARS = new Identifier(TaleOfKingdoms.MODID, "gateway/bars");
+    public static final Identifier GATEWAY = new Identifier(TaleOfKingdoms.MODID, "gateway/gateway");
+    public static final Identifier BARS = new Identifier(TaleOfKingdoms.MODID, "gateway/bars");
 
     public static void addPieces(StructureTemplateManager manager, BlockPos pos, BlockRotation blockRotation, StructurePiecesHolder structurePiecesHolder, Random random) {
         final Direction direction = Direction.random(random);
@@ -33,12 +41,71 @@ public class GatewayGenerator {
         gateway.setOrientation(direction);
         structurePiecesHolder.addPiece(gateway);
         BlockPos startPos = pos.add(new Vec3i(7, 0, 5)).subtract(new Vec3i(0, 2, 0));
-        int times = pos.getY() - 1;
-        for (int i = 0; i < times; i++) {
-            GatewayPiece bars = new GatewayPiece(manager, BARS, startPos, BlockRotation.NONE, 0);
-            bars.setOrientation(direction);
-            structurePiecesHolder.addPiece(bars);
-            startPos = startPos.subtract(new Vec3i(0, 1, 0));
+        if (startPos.getY() >= 0) {
+            structurePiecesHolder.addPiece(new GatewayShaftPiece(startPos, 0));
+        }
+    }
+
+    /**
+     * The iron bar shaft going down from a gateway, generated as a single piece rather than one {@link #BARS} template per level.
+     * The piece is fully described by its bounding box, so it stores nothing beyond that.
+     */
+    public static class GatewayShaftPiece extends StructurePiece {
+
+        private static final int SIZE = 4;
+        private static final BlockState[] RING = createRing();
+
+        public GatewayShaftPiece(BlockPos top, int bottomY) {
+            super(TOKStructures.GATEWAY_SHAFT, 0, new BlockBox(top.getX(), bottomY, top.getZ(), top.getX() + SIZE - 1, top.getY(), top.getZ() + SIZE - 1));
+        }
+
+        public GatewayShaftPiece(StructureContext structureContext, NbtCompound nbtCompound) {
+            super(TOKStructures.GATEWAY_SHAFT, nbtCompound);
+        }
+
+        @Override
+        protected void writeNbt(StructureContext context, NbtCompound nbt) {
+        }
+
+        @Override
+        public void generate(StructureWorldAccess world, StructureAccessor structureAccessor, ChunkGenerator chunkGenerator,
+                             Random random, BlockBox chunkBox, ChunkPos chunkPos, BlockPos pivot) {
+            final BlockBox box = this.getBoundingBox();
+            final BlockPos.Mutable mutable = new BlockPos.Mutable();
+            for (int y = box.getMinY(); y <= box.getMaxY(); y++) {
+                for (int x = 0; x < SIZE; x++) {
+                    for (int z = 0; z < SIZE; z++) {
+                        mutable.set(box.getMinX() + x, y, box.getMinZ() + z);
+                        if (!chunkBox.contains(mutable)) continue;
+                        world.setBlockState(mutable, RING[x * SIZE + z], Block.NOTIFY_LISTENERS);
+                    }
+                }
+            }
+        }
+
+        private static BlockState[] createRing() {
+            final BlockState[] ring = new BlockState[SIZE * SIZE];
+            for (int x = 0; x < SIZE; x++) {
+                for (int z = 0; z < SIZE; z++) {
+                    ring[x * SIZE + z] = getShaftState(x, z);
+                }
+            }
+            return ring;
+        }
+
+        private static BlockState getShaftState(int x, int z) {
+            if (!isBars(x, z)) return Blocks.AIR.getDefaultState();
+            // Connect each bar to its neighbours around the ring
+            return Blocks.IRON_BARS.getDefaultState()
+                    .with(PaneBlock.NORTH, isBars(x, z - 1))
+                    .with(PaneBlock.SOUTH, isBars(x, z + 1))
+                    .with(PaneBlock.WEST, isBars(x - 1, z))
+                    .with(PaneBlock.EAST, isBars(x + 1, z));
+        }
+
+        private static boolean isBars(int x, int z) {
+            if (x < 0 || z < 0 || x >= SIZE || z >= SIZE) return false;
+            return x == 0 || z == 0 || x == SIZE - 1 || z == SIZE - 1;
         }
     }
 
@@ -49,20 +116,31 @@ public class GatewayGenerator {
         }
 
         public GatewayPiece(StructureTemplateManager structureManager, NbtCompound nbtCompound) {
-            super(TOKStructures.GATEWAY, nbtCompound, structureManager, (identifier) -> createPlacementData(null));
+            super(TOKStructures.GATEWAY, nbtCompound, structureManager, (identifier) -> createPlacementData(readRotation(nbtCompound)));
         }
 
         public GatewayPiece(StructureContext structureContext, NbtCompound nbtCompound) {
-            super(TOKStructures.GATEWAY, nbtCompound, structureContext.structureTemplateManager(), (identifier) -> createPlacementData(null));
+            super(TOKStructures.GATEWAY, nbtCompound, structureContext.structureTemplateManager(), (identifier) -> createPlacementData(readRotation(nbtCompound)));
         }
 
-        private static StructurePlacementData createPlacementData(@Nullable BlockRotation rotation) {
+        private static StructurePlacementData createPlacementData(BlockRotation rotation) {
             return (new StructurePlacementData())
-                    .setRotation(rotation != null ? rotation : BlockRotation.random(Random.create()))
+                    .setRotation(rotation)
                     .setMirror(BlockMirror.NONE)
                     .addProcessor(BlockIgnoreStructureProcessor.IGNORE_STRUCTURE_BLOCKS);
         }
 
+        private static BlockRotation readRotation(NbtCompound nbtCompound) {
+            // Pieces saved before the rotation was stored were always placed without rotation
+            return nbtCompound.contains("Rot") ? BlockRotation.valueOf(nbtCompound.getString("Rot")) : BlockRotation.NONE;
+        }
+
+        @Override
+        protected void writeNbt(StructureContext context, NbtCompound nbt) {
+            super.writeNbt(context, nbt);
+            nbt.putString("Rot", this.placementData.getRotation().name());
+        }
+
         @Override
         protected void handleMetadata(String metadata, BlockPos blockPos, ServerWorldAccess serverWorldAccess,
                                       Random random, BlockBox blockBox) {
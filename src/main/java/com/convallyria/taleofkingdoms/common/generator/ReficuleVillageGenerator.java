@@ -20,16 +20,15 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.world.ServerWorldAccess;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class ReficuleVillageGenerator {
 
-    private static final Identifier ONE = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_one");
-    private static final Identifier THREE = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_three");
-    private static final Identifier FOUR = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_four");
-    private static final Identifier MIDDLE = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_middle");
-    private static final Identifier MIDDLE_TWO = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_middle_two");
-    private static final Identifier TOWER = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_tower");
+    public static final Identifier ONE = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_one");
+    public static final Identifier THREE = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_three");
+    public static final Identifier FOUR = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_four");
+    public static final Identifier MIDDLE = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_middle");
+    public static final Identifier MIDDLE_TWO = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_middle_two");
+    public static final Identifier TOWER = new Identifier(TaleOfKingdoms.MODID, "reficule_village/reficule_village_tower");
 
     public static void addPieces(StructureTemplateManager manager, BlockPos pos, BlockRotation blockRotation, StructurePiecesHolder structurePiecesHolder, Random random) {
         final Direction direction = Direction.random(random);
@@ -70,23 +69,34 @@ public class ReficuleVillageGenerator {
         }
 
         public ReficuleVillagePiece(StructureTemplateManager structureManager, NbtCompound nbtCompound) {
-            super(TOKStructures.REFICULE_VILLAGE, nbtCompound, structureManager, (identifier) -> createPlacementData(null));
+            super(TOKStructures.REFICULE_VILLAGE, nbtCompound, structureManager, (identifier) -> createPlacementData(readRotation(nbtCompound)));
         }
 
         public ReficuleVillagePiece(StructureContext structureContext, NbtCompound nbtCompound) {
-            super(TOKStructures.REFICULE_VILLAGE, nbtCompound, structureContext.structureTemplateManager(), (identifier) -> createPlacementData(null));
+            super(TOKStructures.REFICULE_VILLAGE, nbtCompound, structureContext.structureTemplateManager(), (identifier) -> createPlacementData(readRotation(nbtCompound)));
         }
 
-        private static StructurePlacementData createPlacementData(@Nullable BlockRotation rotation) {
+        private static StructurePlacementData createPlacementData(BlockRotation rotation) {
             return (new StructurePlacementData())
-                    .setRotation(rotation != null ? rotation : BlockRotation.random(Random.create()))
+                    .setRotation(rotation)
                     .setMirror(BlockMirror.NONE)
                     .addProcessor(BlockIgnoreStructureProcessor.IGNORE_STRUCTURE_BLOCKS);
         }
 
+        private static BlockRotation readRotation(NbtCompound nbtCompound) {
+            // Pieces saved before the rotation was stored were always placed without rotation
+            return nbtCompound.contains("Rot") ? BlockRotation.valueOf(nbtCompound.getString("Rot")) : BlockRotation.NONE;
+        }
+
+        @Override
+        protected void writeNbt(StructureContext context, NbtCompound nbt) {
+            super.writeNbt(context, nbt);
+            nbt.putString("Rot", this.placementData.getRotation().name());
+        }
+
         @Override
         protected void handleMetadata(String metadata, BlockPos pos, ServerWorldAccess world, net.minecraft.util.math.random.Random random, BlockBox boundingBox) {
-            double percent = Math.random() * 100;
+            double percent = random.nextDouble() * 100;
             if (metadata.equals("Survivor")) {
                 if (percent > 20) {
                     EntityUtils.spawnEntity(EntityTypes.LONEVILLAGER, world, pos);
@@ -3,6 +3,7 @@ package com.convallyria.taleofkingdoms.common.generator.processor;
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.ReficuleSquad;
 import com.convallyria.taleofkingdoms.common.utils.EntityUtils;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
 import com.mojang.serialization.Codec;
@@ -27,7 +28,18 @@ public class GatewayStructureProcessor extends StructureProcessor {
         return INSTANCE;
     });
 
-    public GatewayStructureProcessor() { }
+    private final ReficuleSquad squad;
+
+    public GatewayStructureProcessor() {
+        this(null);
+    }
+
+    /**
+     * @param squad the squad that reficules spawned by this gateway should join, or null for none
+     */
+    public GatewayStructureProcessor(@Nullable ReficuleSquad squad) {
+        this.squad = squad;
+    }
 
     // Used for the guild attack - not the general structure spawn. That's why we add to reficule attackers.
     @Nullable
@@ -45,17 +57,17 @@ public class GatewayStructureProcessor extends StructureProcessor {
             switch (metadata) {
                 case "ReficuleSoldier" -> {
                     MobEntity entity = EntityUtils.spawnEntity(EntityTypes.REFICULE_SOLDIER, serverWorldAccess, newPos);
-                    instance.get().getReficuleAttackers().add(entity.getUuid());
+                    addAttacker(instance.get(), entity);
                     return null;
                 }
                 case "ReficuleArcher" -> {
                     MobEntity entity = EntityUtils.spawnEntity(EntityTypes.REFICULE_GUARDIAN, serverWorldAccess, newPos);
-                    instance.get().getReficuleAttackers().add(entity.getUuid());
+                    addAttacker(instance.get(), entity);
                     return null;
                 }
                 case "ReficuleMage" -> {
                     MobEntity entity = EntityUtils.spawnEntity(EntityTypes.REFICULE_MAGE, serverWorldAccess, newPos);
-                    instance.get().getReficuleAttackers().add(entity.getUuid());
+                    addAttacker(instance.get(), entity);
                     return null;
                 }
             }
@@ -63,6 +75,11 @@ public class GatewayStructureProcessor extends StructureProcessor {
         return currentBlockInfo;
     }
 
+    private void addAttacker(ConquestInstance instance, MobEntity entity) {
+        instance.getReficuleAttackers().add(entity.getUuid());
+        if (squad != null) squad.add(entity);
+    }
+
     protected StructureProcessorType<?> getType() {
         return TaleOfKingdoms.GATEWAY_PROCESSOR;
     }
@@ -0,0 +1,133 @@
+package com.convallyria.taleofkingdoms.common.generator.processor;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.mixin.structure.StructureTemplateAccessor;
+import com.google.common.collect.ImmutableMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.StructureBlock;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An index of the metadata structure blocks in a template, built once per template.
+ * <p>
+ * Markers are stored by their template-relative position in a sorted array, so that processing a marker
+ * is a binary search rather than reading its NBT and resolving the entity type again.
+ */
+public final class GuildMarkerIndex {
+
+    private static final Map<String, EntityType<? extends MobEntity>> ENTITY_MARKERS = ImmutableMap.<String, EntityType<? extends MobEntity>>builder()
+            .put("farmer", EntityTypes.FARMER)
+            .put("guildmaster", EntityTypes.GUILDMASTER)
+            .put("guildmaster_defender", EntityTypes.GUILDMASTER_DEFENDER)
+            .put("blacksmith", EntityTypes.BLACKSMITH)
+            .put("citybuilder", EntityTypes.CITYBUILDER)
+            .put("knight", EntityTypes.KNIGHT)
+            .put("innkeeper", EntityTypes.INNKEEPER)
+            .put("hunter", EntityTypes.HUNTER)
+            .put("guildguard", EntityTypes.GUILDGUARD)
+            .put("guildarcher", EntityTypes.GUILDARCHER)
+            .put("lone", EntityTypes.LONE)
+            .put("banker", EntityTypes.BANKER)
+            .put("foodshop", EntityTypes.FOODSHOP)
+            .put("guildcaptain", EntityTypes.GUILDCAPTAIN)
+            .put("lonevillager", EntityTypes.LONEVILLAGER)
+            .put("reficule_soldier", EntityTypes.REFICULE_SOLDIER)
+            .put("reficule_guardian", EntityTypes.REFICULE_GUARDIAN)
+            .put("reficule_mage", EntityTypes.REFICULE_MAGE)
+            .build();
+
+    private static final Map<StructureTemplate, GuildMarkerIndex> INDICES = new WeakHashMap<>();
+
+    private final long[] positions;
+    private final Marker[] markers;
+
+    private GuildMarkerIndex(long[] positions, Marker[] markers) {
+        this.positions = positions;
+        this.markers = markers;
+    }
+
+    /**
+     * Gets the marker index of a template, building it if this template has not been indexed yet.
+     * @param template the template to index
+     * @return the {@link GuildMarkerIndex} of the template
+     */
+    @NotNull
+    public static GuildMarkerIndex of(StructureTemplate template) {
+        synchronized (INDICES) {
+            return INDICES.computeIfAbsent(template, GuildMarkerIndex::build);
+        }
+    }
+
+    private static GuildMarkerIndex build(StructureTemplate template) {
+        Long2ObjectOpenHashMap<Marker> found = new Long2ObjectOpenHashMap<>();
+        for (StructureTemplate.PalettedBlockInfoList list : ((StructureTemplateAccessor) template).getBlockInfoLists()) {
+            for (StructureTemplate.StructureBlockInfo info : list.getAll()) {
+                if (!(info.state.getBlock() instanceof StructureBlock)) continue;
+                found.put(info.pos.asLong(), parse(info.nbt));
+            }
+        }
+
+        long[] positions = found.keySet().toLongArray();
+        Arrays.sort(positions);
+        Marker[] markers = new Marker[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            markers[i] = found.get(positions[i]);
+        }
+        TaleOfKingdoms.LOGGER.debug("Indexed " + positions.length + " structure block markers");
+        return new GuildMarkerIndex(positions, markers);
+    }
+
+    /**
+     * Resolves the marker of a structure block from its NBT.
+     * @param nbt the structure block's NBT
+     * @return the resolved {@link Marker}
+     */
+    @NotNull
+    public static Marker parse(@Nullable NbtCompound nbt) {
+        if (nbt == null) return Marker.NONE;
+        String metadata = nbt.getString("metadata");
+        if (metadata.equalsIgnoreCase("Gateway")) return Marker.GATEWAY;
+        EntityType<? extends MobEntity> type = ENTITY_MARKERS.get(metadata.toLowerCase(TaleOfKingdoms.DEFAULT_LOCALE));
+        return type == null ? Marker.NONE : new Marker(Kind.ENTITY, type);
+    }
+
+    /**
+     * Gets the marker at a template-relative position.
+     * @param pos the position in the template
+     * @return the {@link Marker}, or null if there is no structure block at this position
+     */
+    @Nullable
+    public Marker get(BlockPos pos) {
+        int index = Arrays.binarySearch(positions, pos.asLong());
+        return index < 0 ? null : markers[index];
+    }
+
+    public int size() {
+        return positions.length;
+    }
+
+    public enum Kind {
+        /**
+         * A marker that doesn't do anything, it just gets replaced with air.
+         */
+        NONE,
+        GATEWAY,
+        ENTITY
+    }
+
+    public record Marker(Kind kind, @Nullable EntityType<? extends MobEntity> type) {
+        public static final Marker NONE = new Marker(Kind.NONE, null);
+        public static final Marker GATEWAY = new Marker(Kind.GATEWAY, null);
+    }
+}
@@ -4,12 +4,14 @@ import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
 import com.convallyria.taleofkingdoms.common.schematic.SchematicOptions;
+import com.convallyria.taleofkingdoms.common.schematic.SpawnBatch;
 import com.convallyria.taleofkingdoms.common.utils.EntityUtils;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
 import com.mojang.serialization.Codec;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.StructureBlock;
 import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.structure.StructurePlacementData;
 import net.minecraft.structure.StructureTemplate;
@@ -21,7 +23,7 @@ import net.minecraft.world.WorldView;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Arrays;
-import java.util.List;
+import java.util.EnumSet;
 import java.util.Optional;
 
 public class GuildStructureProcessor extends StructureProcessor {
@@ -31,57 +33,71 @@ public class GuildStructureProcessor extends StructureProcessor {
         return INSTANCE;
     });
 
-    private final List<SchematicOptions> options;
+    private final @Nullable GuildMarkerIndex markers;
+    private final @Nullable SpawnBatch spawns;
+    private final EnumSet<SchematicOptions> options;
 
     public GuildStructureProcessor(SchematicOptions... options) {
-        this.options = Arrays.asList(options);
+        this(null, null, options);
+    }
+
+    /**
+     * @param markers the marker index of the template being pasted, or null to read markers from each structure block
+     * @param spawns the batch to collect entity spawns into, or null to spawn them as their markers are processed
+     * @param options the paste options
+     */
+    public GuildStructureProcessor(@Nullable GuildMarkerIndex markers, @Nullable SpawnBatch spawns, SchematicOptions... options) {
+        this.markers = markers;
+        this.spawns = spawns;
+        this.options = options.length == 0 ? EnumSet.noneOf(SchematicOptions.class) : EnumSet.copyOf(Arrays.asList(options));
     }
 
     @Nullable
     @Override
     public StructureTemplate.StructureBlockInfo process(WorldView world, BlockPos pos, BlockPos pivot, StructureTemplate.StructureBlockInfo originalBlockInfo, StructureTemplate.StructureBlockInfo currentBlockInfo, StructurePlacementData data) {
+        if (!(currentBlockInfo.state.getBlock() instanceof StructureBlock)) return currentBlockInfo;
+
         ServerWorldAccess serverWorldAccess = (ServerWorldAccess) world;
         StructureTemplate.StructureBlockInfo air = new StructureTemplate.StructureBlockInfo(currentBlockInfo.pos, Blocks.AIR.getDefaultState(), new NbtCompound());
-        if (currentBlockInfo.state.getBlock() instanceof StructureBlock) {
-            String metadata = currentBlockInfo.nbt.getString("metadata");
-            final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
-            if (api == null) return currentBlockInfo;
-            Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
-            TaleOfKingdoms.LOGGER.debug(currentBlockInfo.pos);
-            if (instance.isEmpty()) return currentBlockInfo;
-
-            if (metadata.equalsIgnoreCase("Gateway")) {
-                if (!instance.get().isLoaded()) instance.get().getReficuleAttackLocations().add(currentBlockInfo.pos);
-                return air;
-            }
+        final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+        if (api == null) return currentBlockInfo;
+        Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
+        TaleOfKingdoms.LOGGER.debug(currentBlockInfo.pos);
+        if (instance.isEmpty()) return currentBlockInfo;
 
-            if (options.contains(SchematicOptions.NO_ENTITIES)) return air;
-
-            BlockPos spawnPos = currentBlockInfo.pos.add(0.5, 0, 0.5);
-            try {
-                EntityType type = (EntityType<?>) EntityTypes.class.getField(metadata.toUpperCase(TaleOfKingdoms.DEFAULT_LOCALE)).get(EntityTypes.class);
-                if (type == null) return air;
-                if (options.contains(SchematicOptions.IGNORE_DEFENDERS)
-                        && (type == EntityTypes.GUILDGUARD || type == EntityTypes.GUILDARCHER)) {
-                    return air;
-                }
-
-                if (type != EntityTypes.GUILDGUARD && type != EntityTypes.GUILDARCHER) {
-                    Optional guildEntity = instance.get().getGuildEntity(serverWorldAccess.toServerWorld(), type);
-                    if (type == EntityTypes.GUILDMASTER) {
-                        guildEntity = instance.get().getGuildMaster(serverWorldAccess.toServerWorld());
-                    }
-
-                    if (guildEntity.isEmpty()) {
-                        EntityUtils.spawnEntity(type, serverWorldAccess, spawnPos);
-                    }
-                } else EntityUtils.spawnEntity(type, serverWorldAccess, spawnPos);
-            } catch (ReflectiveOperationException e) {
-                e.printStackTrace();
-            }
+        GuildMarkerIndex.Marker marker = markers != null ? markers.get(originalBlockInfo.pos) : null;
+        if (marker == null) marker = GuildMarkerIndex.parse(currentBlockInfo.nbt);
+
+        if (marker.kind() == GuildMarkerIndex.Kind.GATEWAY) {
+            if (!instance.get().isLoaded()) instance.get().getReficuleAttackLocations().add(currentBlockInfo.pos);
+            return air;
+        }
+
+        if (options.contains(SchematicOptions.NO_ENTITIES)) return air;
+
+        EntityType<? extends MobEntity> type = marker.type();
+        if (type == null) return air;
+        if (options.contains(SchematicOptions.IGNORE_DEFENDERS)
+                && (type == EntityTypes.GUILDGUARD || type == EntityTypes.GUILDARCHER)) {
+            return air;
+        }
+
+        BlockPos spawnPos = currentBlockInfo.pos.add(0.5, 0, 0.5);
+        if (spawns != null) {
+            spawns.add(type, spawnPos);
             return air;
         }
-        return currentBlockInfo;
+
+        if (type != EntityTypes.GUILDGUARD && type != EntityTypes.GUILDARCHER) {
+            Optional<?> guildEntity = type == EntityTypes.GUILDMASTER
+                    ? instance.get().getGuildMaster(serverWorldAccess.toServerWorld())
+                    : instance.get().getGuildEntity(serverWorldAccess.toServerWorld(), type);
+
+            if (guildEntity.isEmpty()) {
+                EntityUtils.spawnEntity(type, serverWorldAccess, spawnPos);
+            }
+        } else EntityUtils.spawnEntity(type, serverWorldAccess, spawnPos);
+        return air;
     }
 
     protected StructureProcessorType<?> getType() {
@@ -0,0 +1,23 @@
+package com.convallyria.taleofkingdoms.common.listener;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.entity.ai.pathing.GuildPathCache;
+import com.convallyria.taleofkingdoms.common.event.BlockChangeCallback;
+import com.convallyria.taleofkingdoms.common.world.GuildWaypoints;
+
+public class BlockChangeListener extends Listener {
+
+    public BlockChangeListener() {
+        BlockChangeCallback.EVENT.register((world, pos, oldState, newState) -> {
+            TaleOfKingdoms.getAPI().getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
+                // Block changes in other dimensions can share the guild's coordinates
+                if (!instance.isGuildWorld(world)) return;
+                GuildWaypoints waypoints = instance.getComputedWaypoints();
+                GuildPathCache pathCache = instance.getPathCache();
+                if ((waypoints == null && pathCache.isEmpty()) || !instance.isInGuild(pos)) return;
+                if (waypoints != null) waypoints.update(world, pos);
+                pathCache.invalidate(world, pos, oldState, newState);
+            });
+        });
+    }
+}
@@ -1,22 +1,22 @@
 package com.convallyria.taleofkingdoms.common.listener;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.config.WorthinessTable;
 import com.convallyria.taleofkingdoms.common.entity.generic.HunterEntity;
 import com.convallyria.taleofkingdoms.common.entity.guild.GuildGuardEntity;
 import com.convallyria.taleofkingdoms.common.event.EntityDeathCallback;
 import com.convallyria.taleofkingdoms.common.event.EntityPickupItemCallback;
+import com.convallyria.taleofkingdoms.common.event.EventPhases;
 import com.convallyria.taleofkingdoms.common.event.ItemMergeCallback;
 import com.convallyria.taleofkingdoms.common.item.ItemHelper;
 import com.convallyria.taleofkingdoms.common.item.ItemRegistry;
 import com.convallyria.taleofkingdoms.server.world.ServerConquestInstance;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.fabricmc.api.EnvType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.ProjectileEntity;
-import net.minecraft.item.ItemStack;
+import net.minecraft.item.Item;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.world.World;
 
@@ -25,12 +25,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class CoinListener extends Listener {
-    private JsonObject worthinessJson;
+    private static volatile WorthinessTable worthinessTable = WorthinessTable.EMPTY;
 
     public CoinListener() {
         loadWorthinessJson();
@@ -90,27 +91,25 @@ public class CoinListener extends Listener {
     }
 
     private void coinPickup() {
-        EntityPickupItemCallback.EVENT.register((player, item) -> {
-            if (equalsCoin(item)) {
-                TaleOfKingdoms.getAPI().getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
-                    Random random = ThreadLocalRandom.current();
-                    instance.addCoins(player.getUuid(), random.nextInt(10));
-                    if (TaleOfKingdoms.getAPI().getEnvironment() == EnvType.SERVER) {
-                        ServerConquestInstance.sync((ServerPlayerEntity) player, instance);
-                    }
-                });
+        EntityPickupItemCallback.register(EventPhases.DEFAULT, getCoin(), (player, item) -> {
+            TaleOfKingdoms.getAPI().getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
+                Random random = ThreadLocalRandom.current();
+                instance.addCoins(player.getUuid(), random.nextInt(10));
+                if (TaleOfKingdoms.getAPI().getEnvironment() == EnvType.SERVER) {
+                    ServerConquestInstance.sync((ServerPlayerEntity) player, instance);
+                }
+            });
 
-                player.getInventory().remove(predicate -> predicate.getItem().equals(item.getItem()), -1, player.getInventory());
-            }
+            player.getInventory().remove(predicate -> predicate.getItem().equals(item.getItem()), -1, player.getInventory());
         });
     }
 
     private void preventCoinMerge() {
-        ItemMergeCallback.EVENT.register((stack1, stack2) -> !equalsCoin(stack1) || !equalsCoin(stack2));
+        ItemMergeCallback.register(EventPhases.DEFAULT, getCoin(), (stack1, stack2) -> !stack1.isOf(getCoin()) || !stack2.isOf(getCoin()));
     }
 
-    private boolean equalsCoin(ItemStack stack) {
-        return stack.getItem().equals(ItemRegistry.ITEMS.get(ItemRegistry.TOKItem.COIN));
+    private Item getCoin() {
+        return ItemRegistry.ITEMS.get(ItemRegistry.TOKItem.COIN);
     }
 
     //Copies (if needed) and loads the json file in "config/taleofkingdoms/worthiness.json"
@@ -127,28 +126,32 @@ public class CoinListener extends Listener {
                     Files.copy(fileSrc, externalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
                 }
 
-                Reader reader = Files.newBufferedReader(externalFile.toPath());
-
-                worthinessJson = new Gson().fromJson(reader, JsonObject.class);
+                reloadWorthiness(externalFile.toPath());
             } catch (IOException | JsonParseException e) {
                 e.printStackTrace();
             }
         }
     }
 
+    /**
+     * Parses a worthiness json and swaps it in. If it is invalid, the current worthiness is kept.
+     * @param path the worthiness json
+     * @throws IOException if the file cannot be read
+     * @throws JsonParseException if the file is not a valid worthiness json
+     */
+    public static void reloadWorthiness(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            worthinessTable = WorthinessTable.parse(reader);
+        }
+    }
+
     /**
      * Gets the mob worthiness from the json file
      * @param mob the {@link LivingEntity} killed
      * @return the mob's worthiness if and only if the entry exists, else 1
      */
     public int getMobWorthiness(LivingEntity mob) {
-        String mobType = mob.getType().getName().getString();
-
-        if(worthinessJson.has(mobType)) {
-            return worthinessJson.get(mobType).getAsInt();
-        } else {
-            return 1;
-        }
+        return worthinessTable.getMobWorthiness(mob.getType());
     }
 
     /**
@@ -157,12 +160,6 @@ public class CoinListener extends Listener {
      * @return the difficulty's worthiness if and only if the entry exists, else 1
      */
     public int getDifficultyWorthinessMultiplier(World world) {
-        JsonObject difficulty = worthinessJson.getAsJsonObject("difficulty");
-
-        if(difficulty.has(world.getDifficulty().getName())) {
-            return difficulty.get(world.getDifficulty().getName()).getAsInt();
-        } else {
-            return 1;
-        }
+        return worthinessTable.getDifficultyMultiplier(world.getDifficulty());
     }
 }
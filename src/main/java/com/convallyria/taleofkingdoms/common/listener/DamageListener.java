@@ -0,0 +1,16 @@
+package com.convallyria.taleofkingdoms.common.listener;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.event.EntityDamageCallback;
+import net.minecraft.util.math.MathHelper;
+
+public class DamageListener extends Listener {
+
+    public DamageListener() {
+        EntityDamageCallback.EVENT.register((entity, source, amount) -> {
+            // The bounds are only enforced by the config screen, not when the file is edited by hand
+            final int percent = MathHelper.clamp(TaleOfKingdoms.config.mainConfig.guildDamagePercent, 0, 1000);
+            return amount * percent / 100f;
+        });
+    }
+}
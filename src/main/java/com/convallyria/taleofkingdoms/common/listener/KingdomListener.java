@@ -6,6 +6,8 @@ public class KingdomListener extends Listener {
 
     public KingdomListener() {
         KingdomStartCallback.EVENT.register((player, instance) -> {
+            // The guild has just been pasted, so start working out where guild NPCs can wander to
+            instance.getWaypoints(player.getWorld());
             //SoundManager soundManager = (SoundManager) TaleOfKingdoms.getAPI().get().getManager("Sound Manager");
             //player.playSound(soundManager.getSound(SoundManager.TOKSound.TOKTHEME), SoundCategory.MASTER,1, 1);
         });
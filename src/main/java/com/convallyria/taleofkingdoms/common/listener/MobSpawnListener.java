@@ -1,29 +1,51 @@
 package com.convallyria.taleofkingdoms.common.listener;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
 import com.convallyria.taleofkingdoms.common.event.EntitySpawnCallback;
 import com.convallyria.taleofkingdoms.common.item.ItemHelper;
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
+import net.minecraft.util.registry.Registry;
 
+import java.util.BitSet;
 import java.util.Optional;
 
 public class MobSpawnListener extends Listener {
 
-    private static final ImmutableList<EntityType<?>> BLACKLIST = ImmutableList.of(
+    private static final ImmutableSet<EntityType<?>> BLACKLIST = ImmutableSet.of(
             EntityTypes.REFICULE_MAGE,
             EntityTypes.REFICULE_GUARDIAN,
             EntityTypes.REFICULE_SOLDIER);
 
+    /*
+     * Whether a type is stopped from spawning in the guild only depends on its class, so it is worked out
+     * the first time each type spawns and kept by raw id. Item drops, arrows and experience orbs then
+     * cost two bit lookups. Spawning only happens on the server thread, so these are not synchronised.
+     */
+    private final BitSet checked = new BitSet();
+    private final BitSet filtered = new BitSet();
+
     public MobSpawnListener() {
         EntitySpawnCallback.EVENT.register(entity -> {
-            if (!BLACKLIST.contains(entity.getType()) && ItemHelper.isHostileEntity(entity)) {
-                Optional<ConquestInstance> instance = TaleOfKingdoms.getAPI().getConquestInstanceStorage().mostRecentInstance();
-                return instance.isEmpty() || !instance.get().isInGuild(entity);
-            }
-            return true;
+            if (!isFiltered(entity)) return true;
+            final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+            if (api == null) return true;
+            Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
+            if (instance.isEmpty() || !instance.get().isInGuildChunk(entity.getChunkPos())) return true;
+            return !instance.get().isInGuild(entity);
         });
     }
+
+    private boolean isFiltered(Entity entity) {
+        final int id = Registry.ENTITY_TYPE.getRawId(entity.getType());
+        if (!checked.get(id)) {
+            checked.set(id);
+            filtered.set(id, !BLACKLIST.contains(entity.getType()) && ItemHelper.isHostileEntity(entity));
+        }
+        return filtered.get(id);
+    }
 }
@@ -7,24 +7,26 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
 
 public final class CommonSchematicHandler extends SchematicHandler {
 
     @Override
     @NotNull
-    public CompletableFuture<BlockBox> pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, SchematicOptions... options) {
+    public CompletableFuture<BlockBox> pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, @Nullable DoubleConsumer progress, SchematicOptions... options) {
         CompletableFuture<BlockBox> cf = new CompletableFuture<>();
 
         if (FabricLoader.getInstance().getEnvironmentType() == EnvType.SERVER) {
             // WorldEdit requires actions to be done on the dedicated server thread.
             TaleOfKingdoms.getAPI().getServer().ifPresent(minecraftServer -> {
-                minecraftServer.execute(() -> pasteSchematic(schematic, player, position, cf, options));
+                minecraftServer.execute(() -> pasteSchematic(schematic, player, position, cf, progress, options));
             });
         } else {
             // WorldEdit requires actions to be done on the client server thread.
-            TaleOfKingdoms.getAPI().executeOnServer(() -> pasteSchematic(schematic, player, position, cf, options));
+            TaleOfKingdoms.getAPI().executeOnServer(() -> pasteSchematic(schematic, player, position, cf, progress, options));
         }
         return cf;
     }
@@ -0,0 +1,220 @@
+package com.convallyria.taleofkingdoms.common.schematic;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.mixin.structure.StructureTemplateAccessor;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.LootableContainerBlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.structure.StructurePlacementData;
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.util.Clearable;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.random.Random;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Places a structure template or {@link LegacySchematic} over several ticks rather than all at once.
+ * <p>
+ * The blocks are split into chunk-aligned slices. A legacy schematic's slices are only decoded once they are reached. Each tick, slices are processed and placed
+ * until either the block limit or the time budget for that tick is used up.
+ * Template entities are spawned once every block has been placed.
+ * <p>
+ * When pasting only changed blocks, each block is compared against the world first and left alone if it already matches,
+ * so repairing a guild costs roughly as much as the damage done to it.
+ */
+public class IncrementalPaste {
+
+    public static final int MAX_BLOCKS_PER_TICK = 8192;
+    private static final long TICK_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final ServerWorld world;
+    private final @Nullable StructureTemplate template;
+    private final StructurePlacementData placementData;
+    private final BlockPos position;
+    private final Random random;
+    private final CompletableFuture<BlockBox> future;
+    private final @Nullable DoubleConsumer progress;
+    private final boolean onlyChanged;
+
+    private final BlockBox box;
+
+    private final Deque<Supplier<List<StructureTemplate.StructureBlockInfo>>> slices = new ArrayDeque<>();
+    private int totalBlocks;
+    private List<StructureTemplate.StructureBlockInfo> current = Collections.emptyList();
+    private int currentIndex;
+    private int handledBlocks;
+    private int changedBlocks;
+    private boolean done;
+
+    private IncrementalPaste(ServerWorld world, @Nullable StructureTemplate template, BlockBox box, StructurePlacementData placementData, BlockPos position,
+                             CompletableFuture<BlockBox> future, @Nullable DoubleConsumer progress, boolean onlyChanged) {
+        this.world = world;
+        this.template = template;
+        this.box = box;
+        this.placementData = placementData;
+        this.position = position;
+        this.random = placementData.getRandom(position);
+        this.future = future;
+        this.progress = progress;
+        this.onlyChanged = onlyChanged;
+    }
+
+    public IncrementalPaste(ServerWorld world, StructureTemplate template, StructurePlacementData placementData, BlockPos position,
+                            CompletableFuture<BlockBox> future, @Nullable DoubleConsumer progress, boolean onlyChanged) {
+        this(world, template, template.calculateBoundingBox(placementData, position), placementData, position, future, progress, onlyChanged);
+        final List<StructureTemplate.PalettedBlockInfoList> lists = ((StructureTemplateAccessor) template).getBlockInfoLists();
+        final List<StructureTemplate.StructureBlockInfo> infos = lists.isEmpty()
+                ? Collections.emptyList()
+                : placementData.getRandomBlockInfos(lists, position).getAll();
+
+        // Group by the chunk each block ends up in, keeping the template order within each chunk
+        Long2ObjectLinkedOpenHashMap<List<StructureTemplate.StructureBlockInfo>> byChunk = new Long2ObjectLinkedOpenHashMap<>();
+        for (StructureTemplate.StructureBlockInfo info : infos) {
+            BlockPos worldPos = StructureTemplate.transform(placementData, info.pos).add(position);
+            long chunk = ChunkPos.toLong(worldPos.getX() >> 4, worldPos.getZ() >> 4);
+            byChunk.computeIfAbsent(chunk, key -> new ArrayList<>()).add(info);
+        }
+        for (List<StructureTemplate.StructureBlockInfo> slice : byChunk.values()) {
+            this.slices.add(() -> slice);
+        }
+        this.totalBlocks = infos.size();
+    }
+
+    public IncrementalPaste(ServerWorld world, LegacySchematic schematic, StructurePlacementData placementData, BlockPos position,
+                            CompletableFuture<BlockBox> future, @Nullable DoubleConsumer progress, boolean onlyChanged) {
+        this(world, null, schematic.calculateBoundingBox(placementData, position), placementData, position, future, progress, onlyChanged);
+
+        // Group whole columns by the chunk they end up in, the blocks themselves are created when their slice is placed
+        Long2ObjectLinkedOpenHashMap<IntArrayList> byChunk = new Long2ObjectLinkedOpenHashMap<>();
+        for (int z = 0; z < schematic.getLength(); z++) {
+            for (int x = 0; x < schematic.getWidth(); x++) {
+                BlockPos worldPos = StructureTemplate.transform(placementData, new BlockPos(x, 0, z)).add(position);
+                long chunk = ChunkPos.toLong(worldPos.getX() >> 4, worldPos.getZ() >> 4);
+                byChunk.computeIfAbsent(chunk, key -> new IntArrayList()).add(schematic.column(x, z));
+            }
+        }
+        for (IntArrayList columns : byChunk.values()) {
+            this.slices.add(() -> schematic.getColumns(columns));
+        }
+        this.totalBlocks = schematic.getVolume();
+    }
+
+    /**
+     * Schedules this paste to run on the server tick until it is complete.
+     */
+    public void start() {
+        TaleOfKingdoms.getAPI().getScheduler().repeatWhile(server -> tick(), tick -> !done, 0, 0);
+    }
+
+    /**
+     * Places blocks until this tick's budget is used up.
+     * @return true if the paste has finished
+     */
+    public boolean tick() {
+        if (done) return true;
+        final boolean development = SharedConstants.isDevelopment;
+        SharedConstants.isDevelopment = true; // We want to crash if something went wrong
+        try {
+            final long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+            int placed = 0;
+            while (placed < MAX_BLOCKS_PER_TICK && System.nanoTime() < deadline) {
+                if (currentIndex >= current.size()) {
+                    Supplier<List<StructureTemplate.StructureBlockInfo>> supplier = slices.poll();
+                    if (supplier == null) {
+                        finish();
+                        return true;
+                    }
+                    List<StructureTemplate.StructureBlockInfo> next = supplier.get();
+                    // Runs the processors over this slice only, converting to world positions
+                    current = StructureTemplate.process(world, position, position, placementData, next);
+                    currentIndex = 0;
+                    handledBlocks += next.size() - current.size(); // Blocks the processors removed
+                }
+
+                // Unchanged blocks are cheap to skip, so only placed blocks count towards the limit
+                for (; currentIndex < current.size() && placed < MAX_BLOCKS_PER_TICK; currentIndex++) {
+                    handledBlocks++;
+                    if (place(current.get(currentIndex))) {
+                        placed++;
+                        changedBlocks++;
+                    }
+                }
+            }
+            if (progress != null) progress.accept(Math.min(1.0, (double) handledBlocks / Math.max(1, totalBlocks)));
+        } catch (RuntimeException e) {
+            done = true;
+            future.completeExceptionally(e);
+            TaleOfKingdoms.LOGGER.error("Error pasting schematic", e);
+        } finally {
+            SharedConstants.isDevelopment = development;
+        }
+        return done;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Gets the number of blocks that have been written to the world so far.
+     * When only changed blocks are pasted, this is the number of blocks that differed from the template.
+     * @return the number of blocks written
+     */
+    public int getChangedBlocks() {
+        return changedBlocks;
+    }
+
+    private boolean place(StructureTemplate.StructureBlockInfo info) {
+        final BlockPos pos = info.pos;
+        final BlockState state = info.state.mirror(placementData.getMirror()).rotate(placementData.getRotation());
+        if (onlyChanged && world.getBlockState(pos) == state
+                && (info.nbt == null || !state.hasBlockEntity() || world.getBlockEntity(pos) != null)) {
+            return false;
+        }
+
+        if (info.nbt != null) {
+            BlockEntity blockEntity = world.getBlockEntity(pos);
+            Clearable.clear(blockEntity);
+            world.setBlockState(pos, Blocks.BARRIER.getDefaultState(), Block.NO_REDRAW | Block.FORCE_STATE);
+        }
+
+        if (!world.setBlockState(pos, state, Block.NOTIFY_ALL)) return false;
+        if (info.nbt == null) return true;
+        BlockEntity blockEntity = world.getBlockEntity(pos);
+        if (blockEntity == null) return true;
+        if (blockEntity instanceof LootableContainerBlockEntity) {
+            info.nbt.putLong("LootTableSeed", random.nextLong());
+        }
+        blockEntity.readNbt(info.nbt);
+        return true;
+    }
+
+    private void finish() {
+        done = true;
+        if (template != null && !placementData.shouldIgnoreEntities()) {
+            ((StructureTemplateAccessor) template).callSpawnEntities(world, position, placementData.getMirror(), placementData.getRotation(),
+                    position, placementData.getBoundingBox(), placementData.shouldInitializeMobs());
+        }
+        if (onlyChanged) TaleOfKingdoms.LOGGER.info("Rebuilt " + changedBlocks + " changed blocks out of " + totalBlocks);
+        if (progress != null) progress.accept(1.0);
+        future.complete(box);
+    }
+}
@@ -0,0 +1,120 @@
+package com.convallyria.taleofkingdoms.common.schematic;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.structure.StructurePlacementData;
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Sponge (.schem) or MCEdit (.schematic) schematic, read by {@link LegacySchematicReader}.
+ * <p>
+ * Blocks are kept as one palette index per block, so a schematic costs about two bytes per block in memory.
+ * {@link StructureTemplate.StructureBlockInfo}s are only created for the columns being pasted, when they are pasted.
+ * Positions are relative to the schematic's minimum corner; any WorldEdit offset stored in the file is ignored.
+ */
+public final class LegacySchematic {
+
+    private final String name;
+    private final int width;
+    private final int height;
+    private final int length;
+    private final BlockState[] palette;
+    private final short[] blocks;
+    private final Int2ObjectMap<NbtCompound> blockEntities;
+
+    LegacySchematic(String name, int width, int height, int length, BlockState[] palette, short[] blocks, Int2ObjectMap<NbtCompound> blockEntities) {
+        this.name = name;
+        this.width = width;
+        this.height = height;
+        this.length = length;
+        this.palette = palette;
+        this.blocks = blocks;
+        this.blockEntities = blockEntities;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getVolume() {
+        return blocks.length;
+    }
+
+    /**
+     * Gets the index of a block, in the order both formats store their block data.
+     */
+    int index(int x, int y, int z) {
+        return (y * length + z) * width + x;
+    }
+
+    /**
+     * Gets the column index used by {@link #getColumns(IntList)}.
+     */
+    public int column(int x, int z) {
+        return z * width + x;
+    }
+
+    /**
+     * Creates the block infos of several columns, from the bottom layer up.
+     * Structure voids are left out, the same as in structure templates.
+     * @param columns the columns to create, see {@link #column(int, int)}
+     * @return the block infos, with positions relative to the schematic
+     */
+    @NotNull
+    public List<StructureTemplate.StructureBlockInfo> getColumns(IntList columns) {
+        final List<StructureTemplate.StructureBlockInfo> infos = new ArrayList<>(columns.size() * height);
+        for (int y = 0; y < height; y++) {
+            for (int i = 0; i < columns.size(); i++) {
+                final int column = columns.getInt(i);
+                final int x = column % width;
+                final int z = column / width;
+                final int index = index(x, y, z);
+                final BlockState state = palette[blocks[index] & 0xFFFF];
+                if (state.isOf(Blocks.STRUCTURE_VOID)) continue;
+                final NbtCompound nbt = blockEntities.get(index);
+                // Pasting writes into the NBT, so every paste gets its own copy
+                infos.add(new StructureTemplate.StructureBlockInfo(new BlockPos(x, y, z), state, nbt == null ? null : nbt.copy()));
+            }
+        }
+        return infos;
+    }
+
+    /**
+     * Calculates the area this schematic covers when placed.
+     * @param placementData the placement data, for its rotation and mirror
+     * @param position the position the schematic is pasted at
+     * @return the {@link BlockBox} of the pasted schematic
+     */
+    @NotNull
+    public BlockBox calculateBoundingBox(StructurePlacementData placementData, BlockPos position) {
+        final BlockPos first = StructureTemplate.transform(placementData, BlockPos.ORIGIN).add(position);
+        final BlockPos second = StructureTemplate.transform(placementData, new BlockPos(width - 1, height - 1, length - 1)).add(position);
+        return BlockBox.create(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + width + "x" + height + "x" + length + ")";
+    }
+}
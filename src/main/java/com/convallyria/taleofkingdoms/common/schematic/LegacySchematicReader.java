@@ -0,0 +1,231 @@
+package com.convallyria.taleofkingdoms.common.schematic;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ShortOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.datafixer.fix.BlockStateFlattening;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtHelper;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.state.property.Property;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.InvalidIdentifierException;
+import net.minecraft.util.registry.Registry;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the Sponge (.schem, versions 1 to 3) and MCEdit (.schematic) schematics shipped in <i>assets/schematics</i>.
+ * <p>
+ * The file's NBT is only kept while it is being read. Block data is decoded straight into a
+ * {@link LegacySchematic}'s palette indices, and the NBT tree is dropped once reading finishes.
+ * Blocks that no longer exist are read as air. Block entity data is used as stored, it is not upgraded.
+ */
+public final class LegacySchematicReader {
+
+    private static final String DIRECTORY = "assets/schematics/";
+
+    private LegacySchematicReader() {}
+
+    /**
+     * Reads a schematic from the mod's resources. This does IO, so call it off the server thread.
+     * The mod's own class loader is used, as worker threads do not have it as their context class loader.
+     * @param name the path of the schematic inside <i>assets/schematics</i>, for example <i>tier1/Tier1Well.schematic</i>
+     * @return the read {@link LegacySchematic}
+     * @throws IOException if the schematic does not exist or is not a valid schematic
+     */
+    @NotNull
+    public static LegacySchematic read(String name) throws IOException {
+        if (name.contains("..")) throw new FileNotFoundException("Invalid schematic name " + name);
+        InputStream stream = TaleOfKingdoms.class.getClassLoader().getResourceAsStream(DIRECTORY + name);
+        if (stream == null) throw new FileNotFoundException("Schematic " + name + " could not be found");
+        try (InputStream in = new BufferedInputStream(stream)) {
+            return read(name, NbtIo.readCompressed(in));
+        }
+    }
+
+    @NotNull
+    static LegacySchematic read(String name, NbtCompound root) throws IOException {
+        // Version 3 nests everything in a "Schematic" compound
+        if (root.contains("Schematic", NbtElement.COMPOUND_TYPE)) root = root.getCompound("Schematic");
+        if (root.contains("Blocks", NbtElement.BYTE_ARRAY_TYPE)) return readMCEdit(name, root);
+        if (root.contains("Palette", NbtElement.COMPOUND_TYPE) || root.contains("Blocks", NbtElement.COMPOUND_TYPE)) {
+            return readSponge(name, root);
+        }
+        throw new IOException(name + " is not a Sponge or MCEdit schematic");
+    }
+
+    private static LegacySchematic readSponge(String name, NbtCompound root) throws IOException {
+        final int width = root.getShort("Width") & 0xFFFF;
+        final int height = root.getShort("Height") & 0xFFFF;
+        final int length = root.getShort("Length") & 0xFFFF;
+        final int volume = volume(name, width, height, length);
+
+        final boolean version3 = root.contains("Blocks", NbtElement.COMPOUND_TYPE);
+        final NbtCompound container = version3 ? root.getCompound("Blocks") : root;
+        final NbtCompound paletteNbt = container.getCompound("Palette");
+        int paletteSize = 0;
+        for (String key : paletteNbt.getKeys()) paletteSize = Math.max(paletteSize, paletteNbt.getInt(key) + 1);
+        if (paletteSize > 0xFFFF) throw new IOException(name + " has too many block states");
+        final BlockState[] palette = new BlockState[paletteSize];
+        for (String key : paletteNbt.getKeys()) palette[paletteNbt.getInt(key)] = parseState(key);
+        for (int i = 0; i < palette.length; i++) {
+            if (palette[i] == null) palette[i] = Blocks.AIR.getDefaultState();
+        }
+
+        // Palette indices are stored as varints
+        final byte[] data = container.getByteArray(version3 ? "Data" : "BlockData");
+        final short[] blocks = new short[volume];
+        int index = 0;
+        int i = 0;
+        while (i < data.length) {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (i >= data.length || shift > 28) throw new IOException(name + " has malformed block data");
+                b = data[i++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (index >= volume || value >= palette.length) throw new IOException(name + " has malformed block data");
+            blocks[index++] = (short) value;
+        }
+        if (index != volume) throw new IOException(name + " has " + index + " blocks, expected " + volume);
+
+        final Int2ObjectMap<NbtCompound> blockEntities = new Int2ObjectOpenHashMap<>();
+        // Version 1 called them tile entities
+        final String listKey = container.contains("BlockEntities", NbtElement.LIST_TYPE) ? "BlockEntities" : "TileEntities";
+        final NbtList list = container.getList(listKey, NbtElement.COMPOUND_TYPE);
+        for (int j = 0; j < list.size(); j++) {
+            NbtCompound entry = list.getCompound(j);
+            int[] pos = entry.getIntArray("Pos");
+            if (pos.length != 3 || !inside(pos[0], pos[1], pos[2], width, height, length)) continue;
+            NbtCompound nbt;
+            if (version3) {
+                nbt = entry.getCompound("Data");
+            } else {
+                nbt = entry.copy();
+                nbt.remove("Pos");
+                nbt.remove("Id");
+            }
+            blockEntities.put((pos[1] * length + pos[2]) * width + pos[0], nbt);
+        }
+        return new LegacySchematic(name, width, height, length, palette, blocks, blockEntities);
+    }
+
+    private static LegacySchematic readMCEdit(String name, NbtCompound root) throws IOException {
+        final int width = root.getShort("Width") & 0xFFFF;
+        final int height = root.getShort("Height") & 0xFFFF;
+        final int length = root.getShort("Length") & 0xFFFF;
+        final int volume = volume(name, width, height, length);
+
+        final byte[] ids = root.getByteArray("Blocks");
+        final byte[] data = root.getByteArray("Data");
+        final byte[] add = root.getByteArray("AddBlocks");
+        if (ids.length != volume || data.length != volume) throw new IOException(name + " has malformed block data");
+
+        // Numeric ids are flattened into block states, and each distinct id gets a palette entry
+        final Int2ShortOpenHashMap paletteIndices = new Int2ShortOpenHashMap();
+        final List<BlockState> palette = new ArrayList<>();
+        final short[] blocks = new short[volume];
+        for (int i = 0; i < volume; i++) {
+            int id = ids[i] & 0xFF;
+            if ((i >> 1) < add.length) {
+                id |= ((i & 1) == 0 ? (add[i >> 1] & 0x0F) << 8 : (add[i >> 1] & 0xF0) << 4);
+            }
+            final int legacy = id << 4 | (data[i] & 0xF);
+            short paletteIndex;
+            if (paletteIndices.containsKey(legacy)) {
+                paletteIndex = paletteIndices.get(legacy);
+            } else {
+                if (palette.size() > 0xFFFF) throw new IOException(name + " has too many block states");
+                paletteIndex = (short) palette.size();
+                palette.add(flatten(legacy));
+                paletteIndices.put(legacy, paletteIndex);
+            }
+            blocks[i] = paletteIndex;
+        }
+
+        final Int2ObjectMap<NbtCompound> blockEntities = new Int2ObjectOpenHashMap<>();
+        final NbtList list = root.getList("TileEntities", NbtElement.COMPOUND_TYPE);
+        for (int j = 0; j < list.size(); j++) {
+            NbtCompound nbt = list.getCompound(j).copy();
+            int x = nbt.getInt("x");
+            int y = nbt.getInt("y");
+            int z = nbt.getInt("z");
+            if (!inside(x, y, z, width, height, length)) continue;
+            nbt.remove("x");
+            nbt.remove("y");
+            nbt.remove("z");
+            blockEntities.put((y * length + z) * width + x, nbt);
+        }
+        return new LegacySchematic(name, width, height, length, palette.toArray(new BlockState[0]), blocks, blockEntities);
+    }
+
+    private static int volume(String name, int width, int height, int length) throws IOException {
+        final long volume = (long) width * height * length;
+        if (volume <= 0 || volume > Integer.MAX_VALUE - 8) throw new IOException(name + " has an invalid size " + width + "x" + height + "x" + length);
+        return (int) volume;
+    }
+
+    private static boolean inside(int x, int y, int z, int width, int height, int length) {
+        return x >= 0 && y >= 0 && z >= 0 && x < width && y < height && z < length;
+    }
+
+    /**
+     * Converts a pre-1.13 numeric block id and data value into a block state, the same way worlds are upgraded.
+     */
+    private static BlockState flatten(int legacy) {
+        NbtElement nbt = BlockStateFlattening.lookupState(legacy).convert(NbtOps.INSTANCE).getValue();
+        return nbt instanceof NbtCompound compound ? NbtHelper.toBlockState(compound) : Blocks.AIR.getDefaultState();
+    }
+
+    /**
+     * Parses a block state in the form <i>minecraft:oak_stairs[facing=north,half=top]</i>.
+     * Unknown blocks become air, and unknown properties or values are left at their defaults.
+     */
+    private static BlockState parseState(String string) {
+        final int bracket = string.indexOf('[');
+        final Identifier identifier;
+        try {
+            identifier = new Identifier(bracket == -1 ? string : string.substring(0, bracket));
+        } catch (InvalidIdentifierException e) {
+            TaleOfKingdoms.LOGGER.warn("Invalid block state " + string + " in schematic, using air");
+            return Blocks.AIR.getDefaultState();
+        }
+
+        final Block block = Registry.BLOCK.getOrEmpty(identifier).orElse(null);
+        if (block == null) {
+            TaleOfKingdoms.LOGGER.warn("Unknown block " + identifier + " in schematic, using air");
+            return Blocks.AIR.getDefaultState();
+        }
+
+        BlockState state = block.getDefaultState();
+        if (bracket == -1 || !string.endsWith("]")) return state;
+        for (String pair : string.substring(bracket + 1, string.length() - 1).split(",")) {
+            final int equals = pair.indexOf('=');
+            if (equals == -1) continue;
+            final Property<?> property = block.getStateManager().getProperty(pair.substring(0, equals));
+            if (property != null) state = with(state, property, pair.substring(equals + 1));
+        }
+        return state;
+    }
+
+    private static <T extends Comparable<T>> BlockState with(BlockState state, Property<T> property, String value) {
+        return property.parse(value).map(parsed -> state.with(property, parsed)).orElse(state);
+    }
+}
@@ -1,18 +1,24 @@
 package com.convallyria.taleofkingdoms.common.schematic;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.generator.processor.GuildMarkerIndex;
 import com.convallyria.taleofkingdoms.common.generator.processor.GuildStructureProcessor;
-import net.minecraft.SharedConstants;
-import net.minecraft.block.Block;
+import com.convallyria.taleofkingdoms.common.world.ChunkPregenerator;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.structure.StructurePlacementData;
 import net.minecraft.structure.processor.JigsawReplacementStructureProcessor;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.random.Random;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.DoubleConsumer;
 
 /**
  * Handles schematics for TaleOfKingdoms.
@@ -20,6 +26,8 @@ import java.util.concurrent.CompletableFuture;
  */
 public abstract class SchematicHandler {
 
+    private static final int PREGENERATE_MARGIN = 1;
+
     /**
      * Pastes the selected schematic. Returns a {@link CompletableFuture} containing the {@link BlockBox}
      * @param schematic schematic to paste
@@ -27,7 +35,20 @@ public abstract class SchematicHandler {
      * @param position the {@link BlockPos} position to paste at
      * @return {@link CompletableFuture} containing the {@link BlockBox}
      */
-    public abstract CompletableFuture<BlockBox> pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, SchematicOptions... options);
+    @NotNull
+    public CompletableFuture<BlockBox> pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, SchematicOptions... options) {
+        return pasteSchematic(schematic, player, position, null, options);
+    }
+
+    /**
+     * Pastes the selected schematic over several ticks. Returns a {@link CompletableFuture} containing the {@link BlockBox}
+     * @param schematic schematic to paste
+     * @param player the <b><i>server</i></b> player
+     * @param position the {@link BlockPos} position to paste at
+     * @param progress called on the server thread with the fraction of blocks placed so far, from 0 to 1
+     * @return {@link CompletableFuture} containing the {@link BlockBox}
+     */
+    public abstract CompletableFuture<BlockBox> pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, @Nullable DoubleConsumer progress, SchematicOptions... options);
 
     /**
      * Pastes the selected schematic. Returns a {@link CompletableFuture} containing the {@link BlockBox}.
@@ -43,17 +64,70 @@ public abstract class SchematicHandler {
 	    return pasteSchematic(schematic, player, player.getBlockPos().add(0, 1, 0), options);
     }
 
-    protected void pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, CompletableFuture<BlockBox> cf, SchematicOptions... options) {
+    /**
+     * Pastes a Sponge (.schem) or MCEdit (.schematic) schematic from <i>assets/schematics</i> over several ticks,
+     * such as the tiered city buildings. The schematic is read in the background and pasted with its minimum corner at the position.
+     * Returns a {@link CompletableFuture} containing the {@link BlockBox}
+     * @param name the path of the schematic inside <i>assets/schematics</i>, for example <i>tier1/Tier1Well.schematic</i>
+     * @param player the <b><i>server</i></b> player
+     * @param position the {@link BlockPos} position to paste at
+     * @param progress called on the server thread with the fraction of blocks placed so far, from 0 to 1
+     * @return {@link CompletableFuture} containing the {@link BlockBox}
+     */
+    @NotNull
+    public CompletableFuture<BlockBox> pasteLegacySchematic(String name, ServerPlayerEntity player, BlockPos position, @Nullable DoubleConsumer progress, SchematicOptions... options) {
+        final CompletableFuture<BlockBox> cf = new CompletableFuture<>();
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return LegacySchematicReader.read(name);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, Util.getMainWorkerExecutor()).whenComplete((schematic, throwable) -> {
+            if (throwable != null) {
+                cf.completeExceptionally(throwable);
+                return;
+            }
+
+            player.server.execute(() -> {
+                TaleOfKingdoms.LOGGER.info("Pasting legacy schematic " + schematic);
+                final boolean onlyChanged = Arrays.asList(options).contains(SchematicOptions.ONLY_CHANGED);
+                final StructurePlacementData structurePlacementData = new StructurePlacementData();
+                final IncrementalPaste paste = new IncrementalPaste(player.getWorld(), schematic, structurePlacementData, position, cf, progress, onlyChanged);
+                start(player.getWorld(), paste, schematic.calculateBoundingBox(structurePlacementData, position), cf);
+            });
+        });
+        return cf;
+    }
+
+    protected void pasteSchematic(Schematic schematic, ServerPlayerEntity player, BlockPos position, CompletableFuture<BlockBox> cf, @Nullable DoubleConsumer progress, SchematicOptions... options) {
         TaleOfKingdoms.LOGGER.info("Loading schematic, please wait: " + schematic.toString());
-        player.getWorld().getStructureTemplateManager().getTemplate(schematic.getPath()).ifPresent(structure -> {
-            SharedConstants.isDevelopment = true; // We want to crash if something went wrong
+        TaleOfKingdoms.getAPI().getTemplateStore().getTemplate(player.getWorld().getStructureTemplateManager(), schematic.getPath()).ifPresentOrElse(structure -> {
+            final SpawnBatch spawns = new SpawnBatch();
             StructurePlacementData structurePlacementData = new StructurePlacementData();
-            structurePlacementData.addProcessor(new GuildStructureProcessor(options));
+            structurePlacementData.addProcessor(new GuildStructureProcessor(GuildMarkerIndex.of(structure), spawns, options));
             structurePlacementData.addProcessor(JigsawReplacementStructureProcessor.INSTANCE);
-            structure.place(player.getWorld(), position, position, structurePlacementData, Random.create(), Block.NOTIFY_ALL);
-            BlockBox box = structure.calculateBoundingBox(structurePlacementData, position);
-            cf.complete(box);
-            SharedConstants.isDevelopment = false; // Put it back to what it was.
-        });
+            // Spread the paste over several ticks, the guild castle alone is almost half a million blocks
+            final boolean onlyChanged = Arrays.asList(options).contains(SchematicOptions.ONLY_CHANGED);
+            final CompletableFuture<BlockBox> placed = new CompletableFuture<>();
+            final IncrementalPaste paste = new IncrementalPaste(player.getWorld(), structure, structurePlacementData, position, placed, progress, onlyChanged);
+            start(player.getWorld(), paste, structure.calculateBoundingBox(structurePlacementData, position), placed);
+
+            // NPCs are only spawned once every block is in place
+            placed.thenCompose(box -> spawns.spawn(player.getWorld(), box).thenApply(spawned -> box)).whenComplete((box, throwable) -> {
+                if (throwable != null) cf.completeExceptionally(throwable);
+                else cf.complete(box);
+            });
+        }, () -> cf.completeExceptionally(new IllegalStateException("Schematic " + schematic + " could not be found")));
+    }
+
+    private void start(ServerWorld world, IncrementalPaste paste, BlockBox area, CompletableFuture<BlockBox> placed) {
+        if (TaleOfKingdoms.config.mainConfig.preGenerateGuildChunks) {
+            final ChunkPregenerator pregenerator = new ChunkPregenerator(world, area, PREGENERATE_MARGIN);
+            pregenerator.generate().thenRun(paste::start);
+            placed.whenComplete((box, throwable) -> pregenerator.release());
+        } else {
+            paste.start();
+        }
     }
 }
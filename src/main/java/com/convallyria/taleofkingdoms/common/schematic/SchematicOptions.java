@@ -3,5 +3,9 @@ package com.convallyria.taleofkingdoms.common.schematic;
 public enum SchematicOptions {
     IGNORE_DEFENDERS,
     NO_ENTITIES,
-    IGNORE_GATEWAY
+    IGNORE_GATEWAY,
+    /**
+     * Only writes blocks that differ from the schematic, leaving matching blocks untouched.
+     */
+    ONLY_CHANGED
 }
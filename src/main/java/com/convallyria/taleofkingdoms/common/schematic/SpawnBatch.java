@@ -0,0 +1,99 @@
+package com.convallyria.taleofkingdoms.common.schematic;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.utils.EntityUtils;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects the entities a schematic wants to spawn while it is being pasted, so they can be spawned once every block is in place.
+ * <p>
+ * Guards and archers may appear any number of times. Every other type is a unique guild NPC and is spawned at most once.
+ * Entities that already exist in the pasted area count towards the markers of their type, so re-pasting does not duplicate them.
+ */
+public class SpawnBatch {
+
+    public static final int SPAWNS_PER_TICK = 4;
+
+    private final List<Spawn> spawns = new ArrayList<>();
+
+    public void add(EntityType<? extends MobEntity> type, BlockPos pos) {
+        spawns.add(new Spawn(type, pos.toImmutable()));
+    }
+
+    public boolean isEmpty() {
+        return spawns.isEmpty();
+    }
+
+    /**
+     * Spawns the collected entities, a few per tick.
+     * @param world the world to spawn in
+     * @param box the area that was pasted
+     * @return a future containing the number of entities spawned, completed once all of them have been spawned
+     */
+    @NotNull
+    public CompletableFuture<Integer> spawn(ServerWorld world, BlockBox box) {
+        final Deque<Spawn> queue = collect(world, box);
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+        if (queue.isEmpty()) {
+            future.complete(0);
+            return future;
+        }
+
+        final int total = queue.size();
+        TaleOfKingdoms.getAPI().getScheduler().repeatWhile(server -> {
+            for (int i = 0; i < SPAWNS_PER_TICK && !queue.isEmpty(); i++) {
+                Spawn spawn = queue.poll();
+                EntityUtils.spawnEntity(spawn.type(), world, spawn.pos());
+            }
+            if (queue.isEmpty()) future.complete(total);
+        }, tick -> !queue.isEmpty(), 0, 0);
+        return future;
+    }
+
+    private Deque<Spawn> collect(ServerWorld world, BlockBox box) {
+        final Set<EntityType<?>> types = new HashSet<>();
+        for (Spawn spawn : spawns) types.add(spawn.type());
+
+        // One query for everything that is already there, rather than one per marker
+        final Object2IntOpenHashMap<EntityType<?>> existing = new Object2IntOpenHashMap<>();
+        world.getEntitiesByClass(MobEntity.class, Box.from(box), entity -> types.contains(entity.getType())
+                        && !(entity.getType() == EntityTypes.GUILDMASTER && entity.isFireImmune()))
+                .forEach(entity -> existing.addTo(entity.getType(), 1));
+
+        final Deque<Spawn> queue = new ArrayDeque<>();
+        final Set<EntityType<?>> queuedUnique = new HashSet<>();
+        for (Spawn spawn : spawns) {
+            final EntityType<?> type = spawn.type();
+            if (!isDefender(type)) {
+                if (existing.getInt(type) == 0 && queuedUnique.add(type)) queue.add(spawn);
+            } else if (existing.getInt(type) > 0) {
+                existing.addTo(type, -1);
+            } else {
+                queue.add(spawn);
+            }
+        }
+        return queue;
+    }
+
+    private static boolean isDefender(EntityType<?> type) {
+        return type == EntityTypes.GUILDGUARD || type == EntityTypes.GUILDARCHER;
+    }
+
+    private record Spawn(EntityType<? extends MobEntity> type, BlockPos pos) {}
+}
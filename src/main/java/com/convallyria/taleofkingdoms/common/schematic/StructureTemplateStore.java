@@ -0,0 +1,130 @@
+package com.convallyria.taleofkingdoms.common.schematic;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.generator.GatewayGenerator;
+import com.convallyria.taleofkingdoms.common.generator.ReficuleVillageGenerator;
+import com.convallyria.taleofkingdoms.common.generator.processor.GuildMarkerIndex;
+import com.google.common.collect.ImmutableList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.structure.StructureTemplate;
+import net.minecraft.structure.StructureTemplateManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the mod's structure templates in memory so that pasting them never has to read and decompress NBT on the tick thread.
+ * <p>
+ * The templates the mod always needs are loaded in the background when the server starts.
+ * Loading goes through the server's {@link StructureTemplateManager}, so structure pieces that resolve templates
+ * through the manager themselves benefit from the warm-up as well.
+ */
+public class StructureTemplateStore {
+
+    private static final int MAX_TEMPLATES = 16;
+
+    private static final List<Identifier> PRELOAD = ImmutableList.of(
+            Schematic.GUILD_CASTLE.getPath(),
+            GatewayGenerator.GATEWAY,
+            GatewayGenerator.BARS,
+            ReficuleVillageGenerator.ONE,
+            ReficuleVillageGenerator.THREE,
+            ReficuleVillageGenerator.FOUR,
+            ReficuleVillageGenerator.MIDDLE,
+            ReficuleVillageGenerator.MIDDLE_TWO,
+            ReficuleVillageGenerator.TOWER);
+
+    private final Map<Identifier, StructureTemplate> templates = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Identifier, StructureTemplate> eldest) {
+            return size() > MAX_TEMPLATES;
+        }
+    };
+    private final Map<Identifier, Long> loadTimes = new ConcurrentHashMap<>();
+
+    public StructureTemplateStore() {
+        ServerLifecycleEvents.SERVER_STARTED.register(this::preload);
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            // A data pack may have replaced any of our templates
+            clear();
+            if (success) preload(server);
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> clear());
+    }
+
+    /**
+     * Gets a template, loading it through the manager if it isn't already in memory.
+     * @param manager the manager to load the template with
+     * @param identifier the template to get
+     * @return the template, or empty if it does not exist
+     */
+    @NotNull
+    public Optional<StructureTemplate> getTemplate(StructureTemplateManager manager, Identifier identifier) {
+        synchronized (templates) {
+            StructureTemplate template = templates.get(identifier);
+            if (template != null) return Optional.of(template);
+        }
+
+        final long start = System.nanoTime();
+        Optional<StructureTemplate> template = manager.getTemplate(identifier);
+        template.ifPresent(loaded -> {
+            loadTimes.put(identifier, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            synchronized (templates) {
+                templates.put(identifier, loaded);
+            }
+        });
+        return template;
+    }
+
+    /**
+     * Gets how long each template took to load, in milliseconds.
+     * @return an unmodifiable view of the load times
+     */
+    @NotNull
+    public Map<Identifier, Long> getLoadTimes() {
+        return Collections.unmodifiableMap(loadTimes);
+    }
+
+    /**
+     * Loads every template the mod uses in the background.
+     * @param server the server to load templates for
+     * @return a future that completes once every template has been loaded
+     */
+    public CompletableFuture<Void> preload(MinecraftServer server) {
+        final StructureTemplateManager manager = server.getStructureTemplateManager();
+        final long start = System.nanoTime();
+        CompletableFuture<?>[] futures = PRELOAD.stream()
+                .map(identifier -> CompletableFuture.runAsync(() -> {
+                    getTemplate(manager, identifier).ifPresentOrElse(template -> {
+                        // Index the guild's markers up front too, rather than on the first paste
+                        if (identifier.equals(Schematic.GUILD_CASTLE.getPath())) GuildMarkerIndex.of(template);
+                    }, () -> TaleOfKingdoms.LOGGER.warn("Could not find structure template " + identifier));
+                }, Util.getMainWorkerExecutor()))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                TaleOfKingdoms.LOGGER.error("Error preloading structure templates", throwable);
+                return;
+            }
+            TaleOfKingdoms.LOGGER.info("Preloaded " + PRELOAD.size() + " structure templates in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms " + loadTimes);
+        });
+    }
+
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+        loadTimes.clear();
+    }
+}
@@ -0,0 +1,167 @@
+package com.convallyria.taleofkingdoms.common.shop;
+
+import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import it.unimi.dsi.fastutil.objects.Reference2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.inventory.Inventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+/**
+ * What the sellable items of an inventory are worth, worked out in one pass over its slots.
+ * <p>
+ * Each stack is priced by looking its {@link Item} up in the {@link ShopCatalog}. Items that are not in the catalog,
+ * or that cannot be sold, are left out of the valuation and are never taken from the inventory.
+ */
+public final class SellValuation {
+
+    private final Reference2IntMap<ShopItem> breakdown;
+    private final long total;
+    private final int slots;
+
+    private SellValuation(Reference2IntMap<ShopItem> breakdown, long total, int slots) {
+        this.breakdown = Reference2IntMaps.unmodifiable(breakdown);
+        this.total = total;
+        this.slots = slots;
+    }
+
+    /**
+     * Values every sellable item in an inventory.
+     * @param inventory the inventory to value
+     * @return the {@link SellValuation} of the inventory
+     */
+    @NotNull
+    public static SellValuation of(Inventory inventory) {
+        return of(inventory, inventory.size(), stack -> true);
+    }
+
+    /**
+     * Values the sellable items in a player's main inventory that are of one type, for selling all of an item at once.
+     * Armor and the offhand are left alone, so worn items are never sold with their spares.
+     * @param inventory the inventory to value
+     * @param item the item to sell
+     * @return the {@link SellValuation} of the matching items
+     */
+    @NotNull
+    public static SellValuation ofMatching(PlayerInventory inventory, Item item) {
+        return of(inventory, PlayerInventory.MAIN_SIZE, stack -> stack.isOf(item));
+    }
+
+    /**
+     * Values a single stack, such as the one a player is holding.
+     * @param stack the stack to value
+     * @return the {@link SellValuation} of the stack
+     */
+    @NotNull
+    public static SellValuation of(ItemStack stack) {
+        final Reference2IntMap<ShopItem> breakdown = new Reference2IntLinkedOpenHashMap<>();
+        final ShopItem shopItem = getSellable(stack);
+        if (shopItem == null) return new SellValuation(breakdown, 0, 1);
+        breakdown.put(shopItem, stack.getCount());
+        return new SellValuation(breakdown, (long) shopItem.getSell() * stack.getCount(), 1);
+    }
+
+    /**
+     * @param slots how many slots to value, from the first
+     */
+    private static SellValuation of(Inventory inventory, int slots, Predicate<ItemStack> filter) {
+        final Reference2IntMap<ShopItem> breakdown = new Reference2IntLinkedOpenHashMap<>();
+        long total = 0;
+        slots = Math.min(slots, inventory.size());
+        for (int slot = 0; slot < slots; slot++) {
+            final ItemStack stack = inventory.getStack(slot);
+            if (stack.isEmpty() || !filter.test(stack)) continue;
+            final ShopItem shopItem = getSellable(stack);
+            if (shopItem == null) continue;
+            breakdown.put(shopItem, breakdown.getInt(shopItem) + stack.getCount());
+            total += (long) shopItem.getSell() * stack.getCount();
+        }
+        return new SellValuation(breakdown, total, slots);
+    }
+
+    @Nullable
+    private static ShopItem getSellable(ItemStack stack) {
+        if (stack.isEmpty()) return null;
+        final ShopItem shopItem = ShopParser.getCatalog().get(stack.getItem());
+        return shopItem == null || shopItem.getSell() < 0 ? null : shopItem;
+    }
+
+    /**
+     * @return how many of each item were valued, in the order they were found
+     */
+    @NotNull
+    public Reference2IntMap<ShopItem> getBreakdown() {
+        return breakdown;
+    }
+
+    /**
+     * @return the number of Gold Coins the valued items sell for
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return breakdown.isEmpty();
+    }
+
+    /**
+     * Takes the valued items out of an inventory and credits the player with their total, all at once.
+     * If the total would take the player past the most Gold Coins they can hold, nothing is taken or credited.
+     * <p>
+     * Only one side of the game should credit the player, so the other side only takes the items.
+     * @param instance the conquest instance holding the player's balance
+     * @param player the player selling the items
+     * @param source the inventory that was valued. Only the slots that were valued are taken from
+     * @param credit whether to credit the player, or only take the items
+     * @return the {@link ShopTransaction.Result} of the sale
+     */
+    @NotNull
+    public ShopTransaction.Result sell(ConquestInstance instance, PlayerEntity player, Inventory source, boolean credit) {
+        if (isEmpty()) return ShopTransaction.Result.failure("Nothing here can be sold.");
+        if ((long) instance.getCoins(player.getUuid()) + total > Integer.MAX_VALUE) {
+            return ShopTransaction.Result.failure("That is more Gold Coins than you can carry.");
+        }
+
+        // Exactly what was valued is taken, by item, so a shop reload in between cannot take more than was paid for
+        final Reference2IntMap<Item> remaining = new Reference2IntOpenHashMap<>(breakdown.size());
+        breakdown.reference2IntEntrySet().forEach(entry -> remaining.put(entry.getKey().getItem(), entry.getIntValue()));
+        final int slots = Math.min(this.slots, source.size());
+        for (int slot = 0; slot < slots && !remaining.isEmpty(); slot++) {
+            final ItemStack stack = source.getStack(slot);
+            if (stack.isEmpty()) continue;
+            final Item item = stack.getItem();
+            final int wanted = remaining.getInt(item);
+            if (wanted <= 0) continue;
+            final int taken = Math.min(wanted, stack.getCount());
+            source.removeStack(slot, taken);
+            if (taken == wanted) remaining.removeInt(item);
+            else remaining.put(item, wanted - taken);
+        }
+        source.markDirty();
+        if (credit) instance.addCoins(player.getUuid(), (int) total);
+        return new ShopTransaction.Result(true, describe(), 0, total);
+    }
+
+    /**
+     * @return a message listing what each item sold for, and the total
+     */
+    @NotNull
+    public String describe() {
+        final StringJoiner joiner = new StringJoiner(", ", "Sold ", " for " + total + " Gold Coins.");
+        for (Reference2IntMap.Entry<ShopItem> entry : breakdown.reference2IntEntrySet()) {
+            final ShopItem shopItem = entry.getKey();
+            joiner.add(entry.getIntValue() + " " + shopItem.getName() + " (" + (long) shopItem.getSell() * entry.getIntValue() + ")");
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,121 @@
+package com.convallyria.taleofkingdoms.common.shop;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.item.Item;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, indexed view of every {@link ShopItem}, built once by {@link ShopParser}.
+ * <p>
+ * Each item's ID is its position in the catalog, in the order the items appear in <i>shop.json</i>.
+ * Looking an item up by ID, name, or {@link Item} does not scan the shop lists.
+ */
+public final class ShopCatalog {
+
+    public static final ShopCatalog EMPTY = new Builder().build();
+
+    private final ImmutableList<ShopItem> items;
+    private final Map<ShopParser.GUI, ImmutableList<ShopItem>> itemsByGui;
+    private final ImmutableMap<String, ShopItem> itemsByName;
+    private final Map<Item, ShopItem> itemsByItem;
+
+    private ShopCatalog(ImmutableList<ShopItem> items, Map<ShopParser.GUI, ImmutableList<ShopItem>> itemsByGui,
+                        ImmutableMap<String, ShopItem> itemsByName, Map<Item, ShopItem> itemsByItem) {
+        this.items = items;
+        this.itemsByGui = itemsByGui;
+        this.itemsByName = itemsByName;
+        this.itemsByItem = itemsByItem;
+    }
+
+    /**
+     * @return every item in the catalog, ordered by ID
+     */
+    @NotNull
+    public ImmutableList<ShopItem> getItems() {
+        return items;
+    }
+
+    /**
+     * @param gui the shop to get the items of
+     * @return the items sold in the shop, in the order they should be shown
+     */
+    @NotNull
+    public ImmutableList<ShopItem> getItems(ShopParser.GUI gui) {
+        return itemsByGui.getOrDefault(gui, ImmutableList.of());
+    }
+
+    /**
+     * @param id the ID of the item
+     * @return the item with this ID, or null if there is none
+     */
+    @Nullable
+    public ShopItem get(int id) {
+        return id >= 0 && id < items.size() ? items.get(id) : null;
+    }
+
+    /**
+     * @param name the name of the item
+     * @return the first item with this name, or null if there is none
+     */
+    @Nullable
+    public ShopItem get(String name) {
+        return itemsByName.get(name);
+    }
+
+    /**
+     * @param item the item type
+     * @return the first item of this type in the catalog, or null if it is not in the catalog
+     */
+    @Nullable
+    public ShopItem get(Item item) {
+        return itemsByItem.get(item);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public static final class Builder {
+
+        private final List<ShopItem> items = new ArrayList<>();
+        private final Map<ShopParser.GUI, List<ShopItem>> itemsByGui = new EnumMap<>(ShopParser.GUI.class);
+
+        /**
+         * Adds an item to the catalog, giving it the next ID.
+         * @return the added {@link ShopItem}
+         */
+        public ShopItem add(ShopParser.GUI gui, String name, Item item, int cost, int sell) {
+            ShopItem shopItem = new ShopItem(items.size(), name, item, cost, sell);
+            items.add(shopItem);
+            itemsByGui.computeIfAbsent(gui, key -> new ArrayList<>()).add(shopItem);
+            return shopItem;
+        }
+
+        public ShopCatalog build() {
+            Map<ShopParser.GUI, ImmutableList<ShopItem>> byGui = new EnumMap<>(ShopParser.GUI.class);
+            itemsByGui.forEach((gui, list) -> byGui.put(gui, ImmutableList.copyOf(list)));
+
+            Map<String, ShopItem> byName = new HashMap<>();
+            Map<Item, ShopItem> byItem = new IdentityHashMap<>();
+            for (ShopItem shopItem : items) {
+                if (byName.putIfAbsent(shopItem.getName(), shopItem) != null) {
+                    TaleOfKingdoms.LOGGER.warn("Duplicate shop item name " + shopItem.getName() + ", only the first one can be bought");
+                }
+                byItem.putIfAbsent(shopItem.getItem(), shopItem);
+            }
+            return new ShopCatalog(ImmutableList.copyOf(items), Collections.unmodifiableMap(byGui),
+                    ImmutableMap.copyOf(byName), Collections.unmodifiableMap(byItem));
+        }
+    }
+}
@@ -5,18 +5,27 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.Item;
 
 public class ShopItem {
+    private final int id;
     private final String name;
     private final Item item;
     private final int cost;
     private final int sell;
 
-    public ShopItem(String name, Item item, int cost, int sell) {
+    public ShopItem(int id, String name, Item item, int cost, int sell) {
+        this.id = id;
         this.name = name;
         this.item = item;
         this.cost = cost;
         this.sell = sell;
     }
 
+    /**
+     * @return this item's ID in the {@link ShopCatalog}
+     */
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
@@ -40,7 +49,8 @@ public class ShopItem {
     @Override
     public String toString() {
         return "ShopItem{" +
-                "name='" + name + '\'' +
+                "id=" + id +
+                ", name='" + name + '\'' +
                 ", item=" + item +
                 ", cost=" + cost +
                 ", sell=" + sell +
@@ -8,6 +8,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import net.minecraft.item.Item;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.InvalidIdentifierException;
 import net.minecraft.util.registry.Registry;
 
 import java.io.File;
@@ -15,10 +16,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 public class ShopParser {
@@ -28,18 +27,61 @@ public class ShopParser {
         SELL
     }
 
+    private static volatile ShopCatalog catalog = ShopCatalog.EMPTY;
+
     private JsonObject shopJson;
-    public static Map<Enum<GUI>, List<ShopItem>> guiShopItems = new HashMap<>();
+
+    /**
+     * @return the {@link ShopCatalog} currently in use
+     */
+    public static ShopCatalog getCatalog() {
+        return catalog;
+    }
 
     public void createShopItems() {
         if(!loadShopJson()) {
             return;
         }
 
+        try {
+            catalog = parse(shopJson);
+        } catch (JsonParseException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Parses a changed shop json and swaps it in. If it is invalid, the current catalog is kept.
+     * @param path the shop json
+     * @throws IOException if the file cannot be read
+     * @throws JsonParseException if the file is not a valid shop json
+     */
+    public static void reload(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            JsonObject json = new Gson().fromJson(reader, JsonObject.class);
+            if (json == null) throw new JsonParseException(path.getFileName() + " is empty");
+            catalog = parse(json);
+        }
+    }
+
+    /**
+     * Builds a {@link ShopCatalog} from a shop json, checking every entry.
+     * @param shopJson the shop json
+     * @return the built {@link ShopCatalog}
+     * @throws JsonParseException if a shop or item does not exist, or an entry is malformed
+     */
+    private static ShopCatalog parse(JsonObject shopJson) throws JsonParseException {
+        ShopCatalog.Builder builder = new ShopCatalog.Builder();
+
         for (Map.Entry<String, JsonElement> jsonElement : shopJson.entrySet()) {
+            GUI gui = getGui(jsonElement.getKey());
+            if (!jsonElement.getValue().isJsonArray()) throw new JsonParseException("Shop " + jsonElement.getKey() + " must be a list of items");
             JsonArray shopItems = jsonElement.getValue().getAsJsonArray();
 
             for(JsonElement shopItemElement : shopItems) {
+                if (!shopItemElement.isJsonObject() || !shopItemElement.getAsJsonObject().has("item")) {
+                    throw new JsonParseException("Invalid shop item " + shopItemElement + " in " + jsonElement.getKey());
+                }
                 JsonObject shopItem = shopItemElement.getAsJsonObject();
 
                 try {
@@ -47,21 +89,23 @@ public class ShopParser {
 
                     if (shopItem.has("cost")) {
                         int cost = shopItem.get("cost").getAsInt();
+                        if (cost < 0) throw new JsonParseException("Cost of " + shopItem + " cannot be negative");
 
                         String name = getName(shopItem);
 
                         if(shopItem.has("sell")) {
                             int sell = shopItem.get("sell").getAsInt();
-                            addToShopItems(jsonElement.getKey(), new ShopItem(name, item, cost, sell));
+                            builder.add(gui, name, item, cost, sell);
                         } else {
-                            addToShopItems(jsonElement.getKey(), new ShopItem(name, item, cost, -1));
+                            builder.add(gui, name, item, cost, -1);
                         }
                     }
-                } catch (ReflectiveOperationException e) {
-                    e.printStackTrace();
+                } catch (IllegalStateException | UnsupportedOperationException | NumberFormatException e) {
+                    throw new JsonParseException("Invalid shop item " + shopItem + " in " + jsonElement.getKey(), e);
                 }
             }
         }
+        return builder.build();
     }
 
     //Copies (if needed) and loads the json file in "config/taleofkingdoms/shop.json"
@@ -91,11 +135,16 @@ public class ShopParser {
         return false;
     }
 
-    private Item getItem(String name) throws ReflectiveOperationException {
-        return Registry.ITEM.get(new Identifier(name.toLowerCase(TaleOfKingdoms.DEFAULT_LOCALE)));
+    private static Item getItem(String name) throws JsonParseException {
+        try {
+            return Registry.ITEM.getOrEmpty(new Identifier(name.toLowerCase(TaleOfKingdoms.DEFAULT_LOCALE)))
+                    .orElseThrow(() -> new JsonParseException("Unknown item " + name));
+        } catch (InvalidIdentifierException e) {
+            throw new JsonParseException("Invalid item " + name, e);
+        }
     }
 
-    private String getName(JsonObject jsonObject) {
+    private static String getName(JsonObject jsonObject) {
         if (jsonObject.has("name")) {
             return jsonObject.get("name").getAsString();
         } else {
@@ -111,18 +160,15 @@ public class ShopParser {
     // Make recursive function to look for {} and split by ","
 
     /**
-     * Adds a {@link ShopItem} to the list in the map
-     * @param key the key for the entry in the map
-     * @param shopItem the ShopItem to be added to the list of ShopItems in the map for that key
+     * Gets the {@link GUI} of a key in the json
+     * @param key the gui key from the json
+     * @return the matching {@link GUI}
      */
-    private void addToShopItems(String key, ShopItem shopItem) {
-        // gui key from json
-        String upperCaseKey = key.toUpperCase(TaleOfKingdoms.DEFAULT_LOCALE);
-        if (guiShopItems.containsKey(GUI.valueOf(upperCaseKey))) {
-            guiShopItems.get(GUI.valueOf(upperCaseKey)).add(shopItem);
-        } else {
-            guiShopItems.put(GUI.valueOf(upperCaseKey), new ArrayList<>());
-            addToShopItems(key, shopItem);
+    private static GUI getGui(String key) throws JsonParseException {
+        try {
+            return GUI.valueOf(key.toUpperCase(TaleOfKingdoms.DEFAULT_LOCALE));
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException("Unknown shop " + key, e);
         }
     }
 }
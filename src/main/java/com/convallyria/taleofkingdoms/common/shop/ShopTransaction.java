@@ -0,0 +1,173 @@
+package com.convallyria.taleofkingdoms.common.shop;
+
+import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import it.unimi.dsi.fastutil.objects.Reference2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.registry.Registry;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch of shop purchases and sales that are checked and applied together.
+ * <p>
+ * Either every entry goes through or none do: the combined cost is checked against the player's balance
+ * after the combined earnings of the sales, and every item being sold must be in the player's inventory.
+ * The balance is then set once.
+ */
+public final class ShopTransaction {
+
+    public static final int MAX_ENTRIES = 64;
+    /**
+     * The most of one item a single entry can contain, which is a full inventory of stacks of 64.
+     */
+    public static final int MAX_COUNT = 64 * 36;
+
+    private final List<Entry> entries;
+
+    public ShopTransaction(List<Entry> entries) {
+        if (entries.size() > MAX_ENTRIES) throw new IllegalArgumentException("A transaction can have at most " + MAX_ENTRIES + " entries");
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * @return the total cost of the purchases, not counting sales
+     */
+    public long getCost() {
+        long cost = 0;
+        for (Entry entry : entries) {
+            if (!entry.sell()) cost += (long) entry.item().getCost() * entry.count();
+        }
+        return cost;
+    }
+
+    /**
+     * @return the total earned from the sales
+     */
+    public long getEarnings() {
+        long earnings = 0;
+        for (Entry entry : entries) {
+            if (entry.sell()) earnings += (long) entry.item().getSell() * entry.count();
+        }
+        return earnings;
+    }
+
+    public void write(PacketByteBuf buf) {
+        buf.writeVarInt(entries.size());
+        for (Entry entry : entries) {
+            buf.writeVarInt(entry.item().getId());
+            // Lets the server reject the entry if its shop config differs from ours
+            buf.writeVarInt(Registry.ITEM.getRawId(entry.item().getItem()));
+            buf.writeVarInt(entry.count());
+            buf.writeBoolean(entry.sell());
+        }
+    }
+
+    /**
+     * Reads a transaction, resolving every entry against the current {@link ShopCatalog}.
+     * @param buf the buffer to read from
+     * @return the read {@link ShopTransaction}
+     * @throws IllegalArgumentException if the transaction is too large, or an entry is not valid
+     */
+    @NotNull
+    public static ShopTransaction read(PacketByteBuf buf) throws IllegalArgumentException {
+        final int size = buf.readVarInt();
+        if (size < 0 || size > MAX_ENTRIES) throw new IllegalArgumentException("Invalid transaction size " + size);
+        final ShopCatalog catalog = ShopParser.getCatalog();
+        final List<Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int id = buf.readVarInt();
+            final int itemRawId = buf.readVarInt();
+            final int count = buf.readVarInt();
+            final boolean sell = buf.readBoolean();
+            final ShopItem shopItem = catalog.get(id);
+            if (shopItem == null || Registry.ITEM.getRawId(shopItem.getItem()) != itemRawId) {
+                throw new IllegalArgumentException("Unknown shop item " + id);
+            }
+            entries.add(new Entry(shopItem, count, sell));
+        }
+        return new ShopTransaction(entries);
+    }
+
+    /**
+     * Checks the transaction against the player's balance and inventory, and applies it if everything is in order.
+     * This must be called on the server thread.
+     * @param instance the conquest instance holding the player's balance
+     * @param player the player making the transaction
+     * @return the {@link Result} of the transaction
+     */
+    @NotNull
+    public Result apply(ConquestInstance instance, PlayerEntity player) {
+        if (entries.isEmpty()) return Result.failure("Nothing to buy or sell.");
+
+        // Items being sold are counted per item, as several entries may sell the same one
+        final PlayerInventory inventory = player.getInventory();
+        final Reference2IntMap<Item> selling = new Reference2IntLinkedOpenHashMap<>();
+        for (Entry entry : entries) {
+            if (entry.count() <= 0 || entry.count() > MAX_COUNT) return Result.failure("Invalid amount of " + entry.item().getName() + ".");
+            if (entry.sell()) {
+                if (entry.item().getSell() < 0) return Result.failure(entry.item().getName() + " cannot be sold.");
+                final int total = selling.getInt(entry.item().getItem()) + entry.count();
+                if (inventory.count(entry.item().getItem()) < total) return Result.failure("You do not have " + total + " " + entry.item().getName() + " to sell.");
+                selling.put(entry.item().getItem(), total);
+            }
+        }
+
+        final long cost = getCost();
+        final long earnings = getEarnings();
+        final long balance = (long) instance.getCoins(player.getUuid()) - cost + earnings;
+        if (balance < 0) return Result.failure("You need " + cost + " Gold Coins but only have " + (instance.getCoins(player.getUuid()) + earnings) + ".");
+        if (balance > Integer.MAX_VALUE) return Result.failure("That is more Gold Coins than you can carry.");
+
+        // Everything has been checked, so nothing below can fail part way through
+        for (Reference2IntMap.Entry<Item> sold : selling.reference2IntEntrySet()) {
+            inventory.remove(stack -> stack.isOf(sold.getKey()), sold.getIntValue(), player.playerScreenHandler.getCraftingInput());
+        }
+        instance.setCoins(player.getUuid(), (int) balance);
+        for (Entry entry : entries) {
+            if (entry.sell()) continue;
+            final Item item = entry.item().getItem();
+            int remaining = entry.count();
+            while (remaining > 0) {
+                final int count = Math.min(remaining, item.getMaxCount());
+                inventory.offerOrDrop(new ItemStack(item, count));
+                remaining -= count;
+            }
+        }
+        return new Result(true, "Spent " + cost + " and earned " + earnings + " Gold Coins.", cost, earnings);
+    }
+
+    /**
+     * @param item the item to buy or sell
+     * @param count how many to buy or sell
+     * @param sell true if the item is being sold, false if it is being bought
+     */
+    public record Entry(ShopItem item, int count, boolean sell) {}
+
+    /**
+     * @param success whether the transaction was applied
+     * @param message a message for the player describing the outcome
+     * @param cost the amount spent, if it was applied
+     * @param earnings the amount earned, if it was applied
+     */
+    public record Result(boolean success, String message, long cost, long earnings) {
+        public static Result failure(String message) {
+            return new Result(false, message, 0, 0);
+        }
+    }
+}
@@ -1,41 +1,94 @@
 package com.convallyria.taleofkingdoms.common.utils;
 
 import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiPredicate;
 
 public class BlockUtils {
 
+    /**
+     * Iterates the cube of blocks around a location.
+     * The same mutable position is returned for every block, so call {@link BlockPos#toImmutable()} if it needs to be kept.
+     * @param location the centre of the cube
+     * @param radius the radius of the cube
+     * @return an {@link Iterable} over every position in the cube
+     */
+    public static Iterable<BlockPos> iterateNearbyBlocks(BlockPos location, int radius) {
+        return BlockPos.iterate(location.getX() - radius, location.getY() - radius, location.getZ() - radius,
+                location.getX() + radius, location.getY() + radius, location.getZ() + radius);
+    }
+
+    /**
+     * Iterates the square layer of blocks at the bottom of the cube around a location.
+     * The same mutable position is returned for every block, so call {@link BlockPos#toImmutable()} if it needs to be kept.
+     * @param location the centre of the cube
+     * @param radius the radius of the cube
+     * @return an {@link Iterable} over every position in the bottom layer
+     */
+    public static Iterable<BlockPos> iterateNearbyBlocksUnder(BlockPos location, int radius) {
+        int y = location.getY() - radius;
+        return BlockPos.iterate(location.getX() - radius, y, location.getZ() - radius,
+                location.getX() + radius, y, location.getZ() + radius);
+    }
+
+    /**
+     * @deprecated allocates a {@link BlockPos} per block, use {@link #iterateNearbyBlocks(BlockPos, int)}
+     */
+    @Deprecated
     public static List<BlockPos> getNearbyBlocks(BlockPos location, int radius) {
         List<BlockPos> blocks = new ArrayList<>();
-        for (int x = location.getX() - radius; x <= location.getX() + radius; x++) {
-            for (int y = location.getY() - radius; y <= location.getY() + radius; y++) {
-                for (int z = location.getZ() - radius; z <= location.getZ() + radius; z++) {
-                    blocks.add(new BlockPos(x, y, z));
-                }
-            }
+        for (BlockPos pos : iterateNearbyBlocks(location, radius)) {
+            blocks.add(pos.toImmutable());
         }
         return blocks;
     }
 
+    /**
+     * @deprecated allocates a {@link BlockPos} per block, use {@link #iterateNearbyBlocksUnder(BlockPos, int)}
+     */
+    @Deprecated
     public static List<BlockPos> getNearbyBlocksUnder(BlockPos location, int radius) {
         List<BlockPos> blocks = new ArrayList<>();
-        for (int y = location.getY() - radius; y == location.getY() - radius; y++) {
-            for (int x = location.getX() - radius; x <= location.getX() + radius; x++) {
-                for (int z = location.getZ() - radius; z <= location.getZ() + radius; z++) {
-                    blocks.add(new BlockPos(x, y, z));
-                }
-            }
+        for (BlockPos pos : iterateNearbyBlocksUnder(location, radius)) {
+            blocks.add(pos.toImmutable());
         }
         return blocks;
     }
 
+    /**
+     * Sets every block in an area to a state as one batch.
+     * Blocks are placed without updating their neighbours, which are then updated once everything is placed.
+     * Clients get the changes through the per chunk section delta packet that is sent at the end of the tick.
+     * @param world the world to place in
+     * @param area the positions to place at, such as from {@link #iterateNearbyBlocks(BlockPos, int)}
+     * @param state the state to place
+     * @param filter which positions to place at, or null for all of them
+     * @return the number of blocks that were changed
+     */
+    public static int fillArea(World world, Iterable<BlockPos> area, BlockState state, @Nullable BiPredicate<World, BlockPos> filter) {
+        int changed = 0;
+        for (BlockPos pos : area) {
+            if (filter != null && !filter.test(world, pos)) continue;
+            if (world.setBlockState(pos, state, Block.NOTIFY_LISTENERS)) changed++;
+        }
+
+        if (changed == 0) return 0;
+        for (BlockPos pos : area) {
+            if (world.getBlockState(pos) == state) world.updateNeighbors(pos, state.getBlock());
+        }
+        return changed;
+    }
+
     @Nullable
     public static BlockPos locateRestingPlace(ConquestInstance instance, PlayerEntity player) {
         List<BlockPos> validRest = instance.getSleepLocations(player);
@@ -1,16 +1,42 @@
 package com.convallyria.taleofkingdoms.common.utils;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.SpawnReason;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.registry.Registry;
 import net.minecraft.world.ServerWorldAccess;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
+
 public class EntityUtils {
 
+    private static volatile BitSet modEntityTypes;
+
+    /**
+     * Checks if an entity's type was registered by this mod.
+     * The mod's types are found by raw id the first time this is called, after registries are frozen.
+     * @param entity the entity
+     * @return true if the entity is one of this mod's
+     */
+    public static boolean isModEntity(Entity entity) {
+        BitSet types = modEntityTypes;
+        if (types == null) {
+            types = new BitSet();
+            for (EntityType<?> type : Registry.ENTITY_TYPE) {
+                if (Registry.ENTITY_TYPE.getId(type).getNamespace().equals(TaleOfKingdoms.MODID)) {
+                    types.set(Registry.ENTITY_TYPE.getRawId(type));
+                }
+            }
+            modEntityTypes = types;
+        }
+        return types.get(Registry.ENTITY_TYPE.getRawId(entity.getType()));
+    }
+
     @Nullable
     public static <T extends MobEntity> T spawnEntity(EntityType<T> type, ServerPlayerEntity serverPlayer, BlockPos pos) {
         return spawnEntity(type, serverPlayer.getWorld(), pos);
@@ -0,0 +1,90 @@
+package com.convallyria.taleofkingdoms.common.world;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Gets the chunks covering an area generated and loaded before anything is placed in it.
+ * <p>
+ * Chunks are requested through tickets, so they are generated by the chunk system's own workers
+ * while the server keeps ticking. The chunks stay loaded until {@link #release()} is called.
+ */
+public class ChunkPregenerator {
+
+    private static final ChunkTicketType<ChunkPos> TICKET = ChunkTicketType.create("taleofkingdoms_pregenerate", Comparator.comparingLong(ChunkPos::toLong));
+    private static final int TIMEOUT_TICKS = 20 * 60;
+
+    private final ServerWorld world;
+    private final List<ChunkPos> chunks = new ArrayList<>();
+    private boolean ticketed;
+
+    /**
+     * @param world the world to generate chunks in
+     * @param box the area that needs to be generated
+     * @param margin extra chunks to generate around the area
+     */
+    public ChunkPregenerator(ServerWorld world, BlockBox box, int margin) {
+        this.world = world;
+        for (int x = (box.getMinX() >> 4) - margin; x <= (box.getMaxX() >> 4) + margin; x++) {
+            for (int z = (box.getMinZ() >> 4) - margin; z <= (box.getMaxZ() >> 4) + margin; z++) {
+                chunks.add(new ChunkPos(x, z));
+            }
+        }
+    }
+
+    /**
+     * Requests every chunk and waits for them to load, without blocking the server thread.
+     * If the chunks take longer than a minute, the future completes anyway so whatever is waiting on it is not stuck forever.
+     * @return a future completed on the server thread once every chunk is loaded
+     */
+    public CompletableFuture<Void> generate() {
+        final ServerChunkManager chunkManager = world.getChunkManager();
+        for (ChunkPos pos : chunks) {
+            chunkManager.addTicket(TICKET, pos, 0, pos);
+        }
+        this.ticketed = true;
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        final List<ChunkPos> remaining = new ArrayList<>(chunks);
+        final long start = System.currentTimeMillis();
+        TaleOfKingdoms.getAPI().getScheduler().repeatWhile(new Consumer<>() {
+            private int waited;
+
+            @Override
+            public void accept(MinecraftServer server) {
+                remaining.removeIf(pos -> chunkManager.isChunkLoaded(pos.x, pos.z));
+                if (remaining.isEmpty()) {
+                    TaleOfKingdoms.LOGGER.info("Generated " + chunks.size() + " chunks in " + (System.currentTimeMillis() - start) + "ms");
+                    future.complete(null);
+                } else if (++waited >= TIMEOUT_TICKS) {
+                    TaleOfKingdoms.LOGGER.warn("Gave up waiting for " + remaining.size() + " chunks to generate");
+                    future.complete(null);
+                }
+            }
+        }, tick -> !future.isDone(), 0, 0);
+        return future;
+    }
+
+    /**
+     * Removes the tickets keeping the chunks loaded.
+     */
+    public void release() {
+        if (!ticketed) return;
+        final ServerChunkManager chunkManager = world.getChunkManager();
+        for (ChunkPos pos : chunks) {
+            chunkManager.removeTicket(TICKET, pos, 0, pos);
+        }
+        this.ticketed = false;
+    }
+}
@@ -4,9 +4,12 @@ import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
 import com.convallyria.taleofkingdoms.client.translation.Translations;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.entity.ai.pathing.GuildPathCache;
 import com.convallyria.taleofkingdoms.common.entity.generic.HunterEntity;
 import com.convallyria.taleofkingdoms.common.entity.generic.LoneVillagerEntity;
 import com.convallyria.taleofkingdoms.common.entity.guild.GuildMasterEntity;
+import com.convallyria.taleofkingdoms.common.entity.reficule.squad.ReficuleSquad;
+import com.convallyria.taleofkingdoms.common.generator.GatewayGenerator;
 import com.convallyria.taleofkingdoms.common.generator.processor.GatewayStructureProcessor;
 import com.convallyria.taleofkingdoms.common.schematic.Schematic;
 import com.convallyria.taleofkingdoms.common.schematic.SchematicOptions;
@@ -22,16 +25,17 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.structure.StructurePlacementData;
 import net.minecraft.structure.processor.BlockIgnoreStructureProcessor;
 import net.minecraft.structure.processor.JigsawReplacementStructureProcessor;
-import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockBox;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.world.ServerWorldAccess;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -50,6 +54,11 @@ public class ConquestInstance {
 
     public static final String CURRENT_VERSION = TaleOfKingdoms.VERSION;
 
+    /**
+     * How many columns of the guild are scanned for waypoints each tick, so that the scan doesn't stall the server.
+     */
+    private static final int WAYPOINT_COLUMNS_PER_TICK = 256;
+
     private String version;
     private final String world;
     private final String name;
@@ -70,6 +79,11 @@ public class ConquestInstance {
     private final Map<UUID, Integer> playerWorthiness;
     private Map<UUID, List<UUID>> hunterUUIDs;
 
+    private transient GuildWaypoints waypoints;
+    private transient GuildBounds bounds;
+    private transient GuildPathCache pathCache;
+    private transient Map<UUID, ReficuleSquad> reficuleSquads;
+
     public ConquestInstance(String world, String name, BlockPos start, BlockPos end, BlockPos origin) {
         Optional<ConquestInstance> instance = Optional.ofNullable(TaleOfKingdoms.getAPI())
                 .map(TaleOfKingdomsAPI::getConquestInstanceStorage)
@@ -127,6 +141,8 @@ public class ConquestInstance {
 
     public void setStart(BlockPos start) {
         this.start = start;
+        this.waypoints = null;
+        this.bounds = null;
     }
 
     public BlockPos getEnd() {
@@ -135,6 +151,8 @@ public class ConquestInstance {
 
     public void setEnd(BlockPos end) {
         this.end = end;
+        this.waypoints = null;
+        this.bounds = null;
     }
 
     public BlockPos getOrigin() {
@@ -165,15 +183,18 @@ public class ConquestInstance {
             this.underAttack = true;
             Translations.GUILDMASTER_HELP.send(player);
 
-            Identifier gateway = new Identifier(TaleOfKingdoms.MODID, "gateway/gateway");
-            world.toServerWorld().getStructureTemplateManager().getTemplate(gateway).ifPresent(structure -> {
+            final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+            api.getTemplateStore().getTemplate(world.toServerWorld().getStructureTemplateManager(), GatewayGenerator.GATEWAY).ifPresent(structure -> {
                 for (BlockPos reficuleAttackLocation : reficuleAttackLocations) {
+                    // Everything that comes through the same gateway is coordinated as one squad
+                    ReficuleSquad squad = new ReficuleSquad(world.toServerWorld(), reficuleAttackLocation, getCentre());
                     StructurePlacementData structurePlacementData = new StructurePlacementData();
-                    structurePlacementData.addProcessor(GatewayStructureProcessor.INSTANCE);
+                    structurePlacementData.addProcessor(new GatewayStructureProcessor(squad));
                     structurePlacementData.addProcessor(JigsawReplacementStructureProcessor.INSTANCE);
                     structurePlacementData.addProcessor(BlockIgnoreStructureProcessor.IGNORE_AIR);
                     BlockPos newPos = reficuleAttackLocation.subtract(new Vec3i(6, 1, 6));
                     structure.place(world, newPos, newPos, structurePlacementData, Random.create(), Block.NOTIFY_ALL);
+                    addReficuleSquad(squad);
                 }
             });
         }
@@ -208,6 +229,26 @@ public class ConquestInstance {
         return reficuleAttackers;
     }
 
+    /**
+     * Gets the squad a reficule attacker belongs to. Squads only exist for the attack they were created in.
+     * @param attacker the uuid of the attacker
+     * @return the {@link ReficuleSquad}, or null if the attacker isn't in one
+     */
+    @Nullable
+    public ReficuleSquad getReficuleSquad(UUID attacker) {
+        if (reficuleSquads == null) return null;
+        return reficuleSquads.get(attacker);
+    }
+
+    private void addReficuleSquad(ReficuleSquad squad) {
+        if (!squad.isActive()) return;
+        if (reficuleSquads == null) reficuleSquads = new ConcurrentHashMap<>();
+        squad.getMembers().forEach(member -> reficuleSquads.put(member.getUuid(), squad));
+        TaleOfKingdoms.getAPI().getScheduler().repeatWhile(server -> {
+            if (!squad.tick()) reficuleSquads.values().removeIf(other -> other == squad);
+        }, tick -> squad.isActive(), 0, ReficuleSquad.TICK_INTERVAL);
+    }
+
     /**
      * @return If the guild has been rebuilt
      */
@@ -364,13 +405,115 @@ public class ConquestInstance {
      * @return true if position is in guild, false if not
      */
     public boolean isInGuild(BlockPos pos) {
-        if (start == null || end == null) return false; // Probably still pasting.
-        BlockBox blockBox = new BlockBox(end.getX(), end.getY(), end.getZ(), start.getX(), start.getY(), start.getZ());
-        return blockBox.contains(pos);
+        final GuildBounds bounds = getBounds();
+        if (bounds == null) return false; // Probably still pasting.
+        return pos.getX() >= bounds.minX() && pos.getX() <= bounds.maxX()
+                && pos.getY() >= bounds.minY() && pos.getY() <= bounds.maxY()
+                && pos.getZ() >= bounds.minZ() && pos.getZ() <= bounds.maxZ();
+    }
+
+    /**
+     * Checks if any part of a chunk is in the guild. Entities keep track of their chunk,
+     * so this can rule out everything outside the guild's chunks before looking at positions.
+     * @param pos the {@link ChunkPos}
+     * @return true if the chunk overlaps the guild, false if not
+     */
+    public boolean isInGuildChunk(ChunkPos pos) {
+        final GuildBounds bounds = getBounds();
+        if (bounds == null) return false;
+        return pos.x >= bounds.minX() >> 4 && pos.x <= bounds.maxX() >> 4
+                && pos.z >= bounds.minZ() >> 4 && pos.z <= bounds.maxZ() >> 4;
+    }
+
+    @Nullable
+    private GuildBounds getBounds() {
+        if (bounds == null && start != null && end != null) {
+            this.bounds = new GuildBounds(Math.min(start.getX(), end.getX()), Math.min(start.getY(), end.getY()), Math.min(start.getZ(), end.getZ()),
+                    Math.max(start.getX(), end.getX()), Math.max(start.getY(), end.getY()), Math.max(start.getZ(), end.getZ()));
+        }
+        return bounds;
+    }
+
+    private record GuildBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {}
+
+    /**
+     * Gets the bounds of the guild. Only valid once the guild has been pasted.
+     * @return the guild {@link BlockBox}
+     */
+    public BlockBox getGuildBox() {
+        return new BlockBox(end.getX(), end.getY(), end.getZ(), start.getX(), start.getY(), start.getZ());
+    }
+
+    /**
+     * Checks if a world is the one the guild is in. The guild is always pasted in the overworld.
+     * @param world the world
+     * @return true if the world is the server world the guild is in
+     */
+    public boolean isGuildWorld(World world) {
+        return !world.isClient() && world.getRegistryKey() == World.OVERWORLD;
+    }
+
+    /**
+     * Gets the standable positions inside the guild, starting to compute them if needed.
+     * These are not saved to file. They are computed from the guild's world over several ticks,
+     * once every chunk of the guild is loaded, so this returns null until they are ready.
+     * @param world the world asking, which must be the guild's world
+     * @return the {@link GuildWaypoints}, or null if they are not available yet
+     */
+    @Nullable
+    public GuildWaypoints getWaypoints(World world) {
+        if (waypoints == null) {
+            if (start == null || end == null) return null; // Probably still pasting.
+            if (!isGuildWorld(world) || !world.isRegionLoaded(end, start)) return null;
+            scanWaypoints();
+        }
+        return waypoints.isComplete() ? waypoints : null;
+    }
+
+    private void scanWaypoints() {
+        final GuildWaypoints scan = GuildWaypoints.create(getGuildBox());
+        this.waypoints = scan;
+        TaleOfKingdoms.getAPI().getScheduler().repeatWhile(server -> {
+            // Stop if the waypoints were discarded, and wait if the guild's chunks were unloaded
+            if (waypoints != scan || !server.getOverworld().isRegionLoaded(end, start)) return;
+            if (scan.scan(server.getOverworld(), WAYPOINT_COLUMNS_PER_TICK)) {
+                TaleOfKingdoms.LOGGER.debug("Computed " + scan.size() + " guild waypoints");
+            }
+        }, tick -> waypoints == scan && !scan.isComplete(), 0, 1);
+    }
+
+    /**
+     * Gets the standable positions inside the guild without computing them.
+     * The guild may still be being scanned, in which case only the scanned part is known.
+     * @return the {@link GuildWaypoints}, or null if computing them has not started
+     */
+    @Nullable
+    public GuildWaypoints getComputedWaypoints() {
+        return waypoints;
+    }
+
+    /**
+     * Discards the computed waypoints so that they will be recomputed on next access.
+     */
+    public void invalidateWaypoints() {
+        this.waypoints = null;
+    }
+
+    /**
+     * Gets the path cache shared by the NPCs of this guild.
+     * @return the {@link GuildPathCache}
+     */
+    @NotNull
+    public GuildPathCache getPathCache() {
+        if (pathCache == null) pathCache = new GuildPathCache();
+        return pathCache;
     }
 
     public CompletableFuture<BlockBox> rebuild(ServerPlayerEntity serverPlayerEntity, TaleOfKingdomsAPI api, SchematicOptions... options) {
-        return api.getSchematicHandler().pasteSchematic(Schematic.GUILD_CASTLE, serverPlayerEntity, getOrigin().subtract(new Vec3i(0, 21, 0)), options);
+        return api.getSchematicHandler().pasteSchematic(Schematic.GUILD_CASTLE, serverPlayerEntity, getOrigin().subtract(new Vec3i(0, 21, 0)), options).thenApply(box -> {
+            invalidateWaypoints();
+            return box;
+        });
     }
 
     public void save(TaleOfKingdomsAPI api) {
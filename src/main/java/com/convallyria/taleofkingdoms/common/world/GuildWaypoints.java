@@ -0,0 +1,153 @@
+package com.convallyria.taleofkingdoms.common.world;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockBox;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A precomputed set of positions inside a guild that a mob can stand on.
+ * <p>
+ * Guild NPCs sample their wander targets from here, rather than probing random positions
+ * around themselves and throwing away every one that lands outside the guild.
+ */
+public class GuildWaypoints {
+
+    private static final int SAMPLE_ATTEMPTS = 10;
+
+    private final BlockBox box;
+    private final LongArrayList points = new LongArrayList();
+    private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+    private int scannedColumns;
+
+    private GuildWaypoints(BlockBox box) {
+        this.box = box;
+        this.indices.defaultReturnValue(-1);
+    }
+
+    /**
+     * Creates the waypoints of a guild without scanning it yet, so the scan can be spread over several ticks with {@link #scan(BlockView, int)}.
+     * @param box the guild bounds
+     * @return the unscanned {@link GuildWaypoints}
+     */
+    @NotNull
+    public static GuildWaypoints create(BlockBox box) {
+        return new GuildWaypoints(box);
+    }
+
+    /**
+     * Scans the next columns of the guild for standable positions.
+     * @param world the world the guild is in
+     * @param columns the most columns to scan
+     * @return true if the whole guild has now been scanned
+     */
+    public boolean scan(BlockView world, int columns) {
+        final int depth = box.getBlockCountZ();
+        final int total = box.getBlockCountX() * depth;
+        final int last = (int) Math.min(total, (long) scannedColumns + columns);
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (; scannedColumns < last; scannedColumns++) {
+            final int x = box.getMinX() + scannedColumns / depth;
+            final int z = box.getMinZ() + scannedColumns % depth;
+            for (int y = box.getMinY(); y <= box.getMaxY(); y++) {
+                if (isStandable(world, mutable, x, y, z)) {
+                    add(BlockPos.asLong(x, y, z));
+                }
+            }
+        }
+        return isComplete();
+    }
+
+    /**
+     * @return true if every column of the guild has been scanned
+     */
+    public boolean isComplete() {
+        return scannedColumns >= box.getBlockCountX() * box.getBlockCountZ();
+    }
+
+    /**
+     * Re-evaluates the positions affected by a block change.
+     * A changed block may be the floor, the feet or the head of a standable position.
+     * @param world the world the guild is in
+     * @param changed the position of the block that changed
+     */
+    public void update(BlockView world, BlockPos changed) {
+        // Columns that have not been scanned yet will see the change when they are
+        if (!isScanned(changed.getX(), changed.getZ())) return;
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        for (int y = changed.getY() - 1; y <= changed.getY() + 1; y++) {
+            if (!box.contains(mutable.set(changed.getX(), y, changed.getZ()))) continue;
+            long packed = mutable.asLong();
+            if (isStandable(world, mutable, changed.getX(), y, changed.getZ())) add(packed);
+            else remove(packed);
+        }
+    }
+
+    /**
+     * Picks a random waypoint within range of the origin.
+     * @param random the random to use
+     * @param origin the position to measure range from
+     * @param horizontalRange maximum x and z distance
+     * @param verticalRange maximum y distance
+     * @return a waypoint, or null if none was found within range
+     */
+    @Nullable
+    public BlockPos sample(Random random, BlockPos origin, int horizontalRange, int verticalRange) {
+        if (points.isEmpty()) return null;
+        for (int attempt = 0; attempt < SAMPLE_ATTEMPTS; attempt++) {
+            long packed = points.getLong(random.nextInt(points.size()));
+            if (Math.abs(BlockPos.unpackLongX(packed) - origin.getX()) <= horizontalRange
+                    && Math.abs(BlockPos.unpackLongZ(packed) - origin.getZ()) <= horizontalRange
+                    && Math.abs(BlockPos.unpackLongY(packed) - origin.getY()) <= verticalRange) {
+                return BlockPos.fromLong(packed);
+            }
+        }
+        return null;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return indices.containsKey(pos.asLong());
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    private boolean isScanned(int x, int z) {
+        if (x < box.getMinX() || x > box.getMaxX() || z < box.getMinZ() || z > box.getMaxZ()) return false;
+        return (x - box.getMinX()) * box.getBlockCountZ() + (z - box.getMinZ()) < scannedColumns;
+    }
+
+    private void add(long packed) {
+        if (indices.containsKey(packed)) return;
+        indices.put(packed, points.size());
+        points.add(packed);
+    }
+
+    private void remove(long packed) {
+        int index = indices.remove(packed);
+        if (index == -1) return;
+        // Swap the last point into the freed slot so removal stays O(1)
+        long last = points.removeLong(points.size() - 1);
+        if (index < points.size()) {
+            points.set(index, last);
+            indices.put(last, index);
+        }
+    }
+
+    private static boolean isStandable(BlockView world, BlockPos.Mutable mutable, int x, int y, int z) {
+        BlockState floor = world.getBlockState(mutable.set(x, y - 1, z));
+        if (floor.getCollisionShape(world, mutable).isEmpty() || !floor.getFluidState().isEmpty()) return false;
+        return isPassable(world, mutable.set(x, y, z)) && isPassable(world, mutable.set(x, y + 1, z));
+    }
+
+    private static boolean isPassable(BlockView world, BlockPos.Mutable mutable) {
+        BlockState state = world.getBlockState(mutable);
+        return state.getCollisionShape(world, mutable).isEmpty() && state.getFluidState().isEmpty();
+    }
+}
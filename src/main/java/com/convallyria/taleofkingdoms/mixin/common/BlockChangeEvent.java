@@ -0,0 +1,19 @@
+package com.convallyria.taleofkingdoms.mixin.common;
+
+import com.convallyria.taleofkingdoms.common.event.BlockChangeCallback;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerWorld.class)
+public class BlockChangeEvent {
+
+    @Inject(method = "onBlockChanged", at = @At("HEAD"))
+    private void onBlockChanged(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo ci) {
+        BlockChangeCallback.EVENT.invoker().change((ServerWorld) (Object) this, pos, oldBlock, newBlock);
+    }
+}
@@ -0,0 +1,37 @@
+package com.convallyria.taleofkingdoms.mixin.common;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
+import com.convallyria.taleofkingdoms.common.event.EntityDamageCallback;
+import com.convallyria.taleofkingdoms.common.utils.EntityUtils;
+import com.convallyria.taleofkingdoms.common.world.ConquestInstance;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageSource;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.ModifyVariable;
+
+import java.util.Optional;
+
+@Mixin(LivingEntity.class)
+public class EntityDamageEvent {
+
+    /*
+     * Only living entities are hooked, as nothing else is damaged in a way the guild cares about.
+     * While guild damage is disabled this is a single config read, and the guild is only looked up
+     * for entities that are not of this mod's types.
+     */
+    @ModifyVariable(method = "damage(Lnet/minecraft/entity/damage/DamageSource;F)Z", at = @At("HEAD"), argsOnly = true)
+    private float damage(float a, DamageSource source, float amount) {
+        if (!TaleOfKingdoms.config.mainConfig.modifyGuildDamage) return a;
+        LivingEntity entity = (LivingEntity) (Object) this;
+        if (entity.world.isClient) return a;
+        if (!EntityUtils.isModEntity(entity)) {
+            final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
+            if (api == null) return a;
+            Optional<ConquestInstance> instance = api.getConquestInstanceStorage().mostRecentInstance();
+            if (instance.isEmpty() || !instance.get().isInGuildChunk(entity.getChunkPos()) || !instance.get().isInGuild(entity)) return a;
+        }
+        return EntityDamageCallback.EVENT.invoker().damage(entity, source, a);
+    }
+}
@@ -14,7 +14,7 @@ public class TaleOfKingdomsDebugCommand implements Command<ServerCommandSource>
     public int run(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
         Entity entity = context.getSource().getEntity();
         if (entity != null) {
-            String message = "{\"text\":\"List of debug commands: invoke, set\"}";
+            String message = "{\"text\":\"List of debug commands: events, invoke, paste, set\"}";
             entity.sendMessage(Texts.parse(context.getSource(), TaleOfKingdoms.parse(new StringReader(message)), entity, 0));
             return 1;
         }
@@ -0,0 +1,34 @@
+package com.convallyria.taleofkingdoms.server.commands.debug;
+
+import com.convallyria.taleofkingdoms.common.event.EventStats;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+
+public class TaleOfKingdomsEventsCommand implements Command<ServerCommandSource> {
+    @Override
+    public int run(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
+        ServerCommandSource source = context.getSource();
+        source.sendFeedback(Text.literal("Event dispatches since the last reset:"), false);
+        for (EventStats stats : EventStats.getAll()) {
+            source.sendFeedback(Text.literal(stats.getName() + ": " + stats.getDispatches() + " dispatches, "
+                    + stats.getTotalNanos() / 1_000_000 + "ms total, " + stats.getAverageNanos() + "ns average"), false);
+        }
+        if (!EventStats.isTiming()) source.sendFeedback(Text.literal("Timing is off, use /taleofkingdoms debug events timing to switch it on"), false);
+        return 1;
+    }
+
+    public static int toggleTiming(CommandContext<ServerCommandSource> context) {
+        EventStats.setTiming(!EventStats.isTiming());
+        context.getSource().sendFeedback(Text.literal("Event timing is now " + (EventStats.isTiming() ? "on" : "off")), false);
+        return 1;
+    }
+
+    public static int reset(CommandContext<ServerCommandSource> context) {
+        EventStats.resetAll();
+        context.getSource().sendFeedback(Text.literal("Reset event stats"), false);
+        return 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.convallyria.taleofkingdoms.server.commands.debug;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.mojang.brigadier.Command;
+import com.mojang.brigadier.StringReader;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.text.Texts;
+
+public class TaleOfKingdomsPasteCommand implements Command<ServerCommandSource> {
+    @Override
+    public int run(CommandContext<ServerCommandSource> context) throws CommandSyntaxException {
+        Entity entity = context.getSource().getEntity();
+        if (entity != null) {
+            String message = "{\"text\":\"Usage: paste <schematic>, for example paste tier1/Tier1Well.schematic\"}";
+            entity.sendMessage(Texts.parse(context.getSource(), TaleOfKingdoms.parse(new StringReader(message)), entity, 0));
+            return 1;
+        }
+        return 0;
+    }
+
+    public static int paste(CommandContext<ServerCommandSource> context) {
+        try {
+            ServerPlayerEntity player = context.getSource().getPlayer();
+            String schematic = StringArgumentType.getString(context, "schematic");
+            TaleOfKingdoms.getAPI().getSchematicHandler().pasteLegacySchematic(schematic, player, player.getBlockPos(), null).whenComplete((box, throwable) -> player.server.execute(() -> {
+                // Reading happens in the background, so a failure may not be on the server thread
+                if (throwable != null) {
+                    TaleOfKingdoms.LOGGER.error("Failed to paste schematic " + schematic, throwable);
+                    player.sendMessage(Text.literal("Failed to paste " + schematic + ", see the log for details"), false);
+                } else {
+                    player.sendMessage(Text.literal("Pasted " + schematic), false);
+                }
+            }));
+            return 1;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+}
@@ -2,10 +2,9 @@ package com.convallyria.taleofkingdoms.server.packet.incoming;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
-import com.convallyria.taleofkingdoms.common.entity.guild.BlacksmithEntity;
-import com.convallyria.taleofkingdoms.common.entity.guild.FoodShopEntity;
 import com.convallyria.taleofkingdoms.common.packet.context.PacketContext;
 import com.convallyria.taleofkingdoms.common.shop.ShopItem;
+import com.convallyria.taleofkingdoms.common.shop.ShopParser;
 import com.convallyria.taleofkingdoms.server.world.ServerConquestInstance;
 import com.convallyria.taleofkingdoms.server.packet.ServerPacketHandler;
 import net.minecraft.entity.Entity;
@@ -14,6 +13,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.registry.Registry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -29,7 +29,8 @@ public final class IncomingBuyItemPacketHandler extends ServerPacketHandler {
     public void handleIncomingPacket(Identifier identifier, PacketContext context, PacketByteBuf attachedData) {
         ServerPlayerEntity player = (ServerPlayerEntity) context.player();
         String playerContext = identifier.toString() + " @ <" + player.getName().getString() + ":" + player.getIp() + ">";
-        String itemName = attachedData.readString(32367);
+        int shopItemId = attachedData.readVarInt();
+        int itemRawId = attachedData.readVarInt();
         int count = attachedData.readInt();
         context.taskQueue().execute(() -> {
             TaleOfKingdoms.getAPI().getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
@@ -46,8 +47,8 @@ public final class IncomingBuyItemPacketHandler extends ServerPacketHandler {
                     return;
                 }
 
-                ShopItem shopItem = getShopItem(itemName);
-                if (shopItem == null) {
+                ShopItem shopItem = ShopParser.getCatalog().get(shopItemId);
+                if (shopItem == null || Registry.ITEM.getRawId(shopItem.getItem()) != itemRawId) {
                     TaleOfKingdoms.LOGGER.info("Rejected " + playerContext + ": Shop item not found.");
                     return;
                 }
@@ -70,15 +71,4 @@ public final class IncomingBuyItemPacketHandler extends ServerPacketHandler {
     public void handleOutgoingPacket(Identifier identifier, @NotNull PlayerEntity player, @Nullable Object... data) {
         throw new IllegalArgumentException("Not supported");
     }
-
-    private ShopItem getShopItem(String name) {
-        for (ShopItem blacksmithShopItem : BlacksmithEntity.getBlacksmithShopItems()) {
-            if (blacksmithShopItem.getName().equals(name)) return blacksmithShopItem;
-        }
-        // Couldn't find it in blacksmith items, try the food shop.
-        for (ShopItem foodShopItem : FoodShopEntity.getFoodShopItems()) {
-            if (foodShopItem.getName().equals(name)) return foodShopItem;
-        }
-        return null; // Nothing found :(
-    }
 }
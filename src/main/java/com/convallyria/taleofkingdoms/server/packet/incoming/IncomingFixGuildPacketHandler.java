@@ -58,7 +58,7 @@ public final class IncomingFixGuildPacketHandler extends ServerPacketHandler {
 
                 playerInventory.setStack(InventoryUtils.getSlotWithStack(playerInventory, stack), new ItemStack(Items.AIR));
                 instance.setCoins(player.getUuid(), instance.getCoins(player.getUuid()) - 3000);
-                instance.rebuild(player, api, SchematicOptions.IGNORE_DEFENDERS);
+                instance.rebuild(player, api, SchematicOptions.IGNORE_DEFENDERS, SchematicOptions.ONLY_CHANGED);
                 ServerConquestInstance.sync(player, instance);
                 this.lastRebuild = System.currentTimeMillis();
             });
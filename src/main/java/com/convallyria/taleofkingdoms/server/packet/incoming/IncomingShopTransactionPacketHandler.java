@@ -0,0 +1,65 @@
+package com.convallyria.taleofkingdoms.server.packet.incoming;
+
+import com.convallyria.taleofkingdoms.TaleOfKingdoms;
+import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
+import com.convallyria.taleofkingdoms.common.packet.context.PacketContext;
+import com.convallyria.taleofkingdoms.common.shop.ShopTransaction;
+import com.convallyria.taleofkingdoms.server.packet.ServerPacketHandler;
+import com.convallyria.taleofkingdoms.server.world.ServerConquestInstance;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+public final class IncomingShopTransactionPacketHandler extends ServerPacketHandler {
+
+    public IncomingShopTransactionPacketHandler() {
+        super(TaleOfKingdoms.SHOP_TRANSACTION_PACKET_ID);
+    }
+
+    @Override
+    public void handleIncomingPacket(Identifier identifier, PacketContext context, PacketByteBuf attachedData) {
+        ServerPlayerEntity player = (ServerPlayerEntity) context.player();
+        String playerContext = identifier.toString() + " @ <" + player.getName().getString() + ":" + player.getIp() + ">";
+        final ShopTransaction transaction;
+        try {
+            transaction = ShopTransaction.read(attachedData);
+        } catch (IllegalArgumentException e) {
+            TaleOfKingdoms.LOGGER.info("Rejected " + playerContext + ": " + e.getMessage());
+            return;
+        }
+
+        context.taskQueue().execute(() -> {
+            TaleOfKingdoms.getAPI().getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
+                if (!instance.isInGuild(player)) {
+                    TaleOfKingdoms.LOGGER.info("Rejected " + playerContext + ": Not in guild.");
+                    return;
+                }
+
+                // Search for either foodshop or blacksmith in the guild, once for the whole transaction
+                Optional<? extends Entity> entity = instance.getGuildEntity(player.world, EntityTypes.BLACKSMITH);
+                if (entity.isEmpty()) entity = instance.getGuildEntity(player.world, EntityTypes.FOODSHOP);
+                if (entity.isEmpty()) {
+                    TaleOfKingdoms.LOGGER.info("Rejected " + playerContext + ": Shop entity not present in guild.");
+                    return;
+                }
+
+                ShopTransaction.Result result = transaction.apply(instance, player);
+                if (!result.success()) TaleOfKingdoms.LOGGER.info("Rejected " + playerContext + ": " + result.message());
+                player.sendMessage(Text.literal(result.message()), false);
+                if (result.success()) ServerConquestInstance.sync(player, instance);
+            });
+        });
+    }
+
+    @Override
+    public void handleOutgoingPacket(Identifier identifier, @NotNull PlayerEntity player, @Nullable Object... data) {
+        throw new IllegalArgumentException("Not supported");
+    }
+}
@@ -2,18 +2,15 @@ package com.convallyria.taleofkingdoms.server.packet.incoming;
 
 import com.convallyria.taleofkingdoms.TaleOfKingdoms;
 import com.convallyria.taleofkingdoms.TaleOfKingdomsAPI;
+import com.convallyria.taleofkingdoms.client.gui.shop.SellScreenHandlerFactory;
 import com.convallyria.taleofkingdoms.common.entity.EntityTypes;
 import com.convallyria.taleofkingdoms.common.packet.context.PacketContext;
 import com.convallyria.taleofkingdoms.server.packet.ServerPacketHandler;
-import net.minecraft.block.BlockState;
-import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.network.PacketByteBuf;
-import net.minecraft.screen.NamedScreenHandlerFactory;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -30,6 +27,8 @@ public final class IncomingToggleSellGuiPacketHandler extends ServerPacketHandle
         ServerPlayerEntity player = (ServerPlayerEntity) context.player();
         String playerContext = identifier.toString() + " @ <" + player.getName().getString() + ":" + player.getIp() + ">";
         boolean close = attachedData.readBoolean();
+        // Closing is left to the screen handler, there is nothing in the world to clean up
+        if (close) return;
         context.taskQueue().execute(() -> {
             final TaleOfKingdomsAPI api = TaleOfKingdoms.getAPI();
             api.getConquestInstanceStorage().mostRecentInstance().ifPresent(instance -> {
@@ -46,22 +45,7 @@ public final class IncomingToggleSellGuiPacketHandler extends ServerPacketHandle
                     return;
                 }
 
-                BlockPos pos = entity.get().getBlockPos().add(0, 2, 0);
-                api.getScheduler().queue(server -> {
-                    if (close) {
-                        server.getOverworld().setBlockState(pos, Blocks.AIR.getDefaultState());
-                        return;
-                    }
-
-                    ServerPlayerEntity serverPlayer = server.getPlayerManager().getPlayer(player.getUuid());
-                    server.getOverworld().setBlockState(pos, TaleOfKingdoms.SELL_BLOCK.getDefaultState());
-                    BlockState state = server.getOverworld().getBlockState(pos);
-                    NamedScreenHandlerFactory screenHandlerFactory = state.createScreenHandlerFactory(server.getOverworld(), pos);
-                    if (screenHandlerFactory != null) {
-                        //With this call the server will request the client to open the appropriate Screenhandler
-                        serverPlayer.openHandledScreen(screenHandlerFactory);
-                    }
-                }, 1);
+                player.openHandledScreen(new SellScreenHandlerFactory());
             });
         });
     }